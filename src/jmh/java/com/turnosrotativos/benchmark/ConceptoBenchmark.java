@@ -0,0 +1,46 @@
+package com.turnosrotativos.benchmark;
+
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.repository.ConceptoLaboralRepository;
+import com.turnosrotativos.service.RegistroConceptos;
+import org.openjdk.jmh.annotations.*;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Búsqueda del concepto y de sus topes en el registro en memoria, como en cada alta de jornada
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class ConceptoBenchmark {
+
+    private RegistroConceptos registroConceptos;
+    private int siguiente;
+
+    @Setup
+    public void preparar() {
+        List<ConceptoLaboral> conceptos = List.of(Datos.turnoNormal(), Datos.turnoExtra(), Datos.diaLibre());
+        // Repositorio mínimo: el registro solo usa findAll para cargarse
+        ConceptoLaboralRepository repositorio = (ConceptoLaboralRepository) Proxy.newProxyInstance(
+                ConceptoLaboralRepository.class.getClassLoader(), new Class<?>[]{ConceptoLaboralRepository.class},
+                (proxy, metodo, argumentos) -> {
+                    if (metodo.getName().equals("findAll") && metodo.getParameterCount() == 0) {
+                        return conceptos;
+                    }
+                    throw new UnsupportedOperationException(metodo.getName());
+                });
+        registroConceptos = new RegistroConceptos(repositorio);
+        registroConceptos.precargar();
+    }
+
+    @Benchmark
+    public int obtenerConceptoYTopes() {
+        siguiente = siguiente % 3 + 1;
+        ConceptoLaboral concepto = registroConceptos.obtener(siguiente).orElseThrow();
+        Integer maxSemanal = concepto.getMaxSemanal();
+        return concepto.getTipo().ordinal() + (maxSemanal != null ? maxSemanal : 0) + (concepto.esLaborable() ? 1 : 0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.turnosrotativos.benchmark;
+
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoConcepto;
+import java.time.LocalDate;
+
+// Entidades armadas a mano para los benchmarks, con los mismos valores que siembran las migraciones
+final class Datos {
+
+    static final LocalDate LUNES = LocalDate.of(2024, 5, 6);
+
+    private Datos() {
+    }
+
+    static ConceptoLaboral turnoNormal() {
+        return concepto(1, "Turno Normal", TipoConcepto.TURNO_NORMAL, true, 6, 8, 5, null);
+    }
+
+    static ConceptoLaboral turnoExtra() {
+        return concepto(2, "Turno Extra", TipoConcepto.TURNO_EXTRA, true, 2, 6, 3, null);
+    }
+
+    static ConceptoLaboral diaLibre() {
+        return concepto(3, "Día Libre", TipoConcepto.DIA_LIBRE, false, null, null, 2, 5);
+    }
+
+    // Conceptos adicionales de tipo turno normal, para repartir jornadas sin chocar con el tope por día
+    static ConceptoLaboral turnoNormalAdicional(int id) {
+        return concepto(id, "Turno Normal " + id, TipoConcepto.TURNO_NORMAL, true, 6, 8, 5, null);
+    }
+
+    static ConceptoLaboral concepto(int id, String nombre, TipoConcepto tipo, boolean laborable, Integer hsMinimo,
+                                    Integer hsMaximo, Integer maxSemanal, Integer maxMensual) {
+        ConceptoLaboral concepto = new ConceptoLaboral();
+        concepto.setId(id);
+        concepto.setNombre(nombre);
+        concepto.setTipo(tipo);
+        concepto.setLaborable(laborable);
+        concepto.setHsMinimo(hsMinimo);
+        concepto.setHsMaximo(hsMaximo);
+        concepto.setMaxEmpleadosDia(2);
+        concepto.setMaxSemanal(maxSemanal);
+        concepto.setMaxMensual(maxMensual);
+        return concepto;
+    }
+
+    static Empleado empleado(int id) {
+        Empleado empleado = new Empleado();
+        empleado.setId(id);
+        empleado.setNroDocumento(30000000 + id);
+        empleado.setNombre("Nombre" + id);
+        empleado.setApellido("Apellido" + id);
+        empleado.setEmail("empleado" + id + "@empresa.com");
+        empleado.setFechaNacimiento(LocalDate.of(1990, 1, 1).plusDays(id % 3650));
+        empleado.setFechaIngreso(LocalDate.of(2020, 1, 1).plusDays(id % 1000));
+        return empleado;
+    }
+
+    static JornadaLaboral jornada(int id, Empleado empleado, ConceptoLaboral concepto, LocalDate fecha) {
+        JornadaLaboral jornada = new JornadaLaboral();
+        jornada.setId(id);
+        jornada.setEmpleado(empleado);
+        jornada.setConceptoLaboral(concepto);
+        jornada.setFecha(fecha);
+        jornada.setHorasTrabajadas(concepto.esLaborable() ? concepto.getHsMinimo() : null);
+        return jornada;
+    }
+
+    static JornadaRequestDTO request(Empleado empleado, ConceptoLaboral concepto, LocalDate fecha) {
+        JornadaRequestDTO request = new JornadaRequestDTO();
+        request.setIdEmpleado(empleado.getId());
+        request.setIdConcepto(concepto.getId());
+        request.setFecha(fecha);
+        request.setHorasTrabajadas(concepto.esLaborable() ? concepto.getHsMinimo() : null);
+        return request;
+    }
+}
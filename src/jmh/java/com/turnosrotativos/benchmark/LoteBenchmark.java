@@ -0,0 +1,129 @@
+package com.turnosrotativos.benchmark;
+
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.repository.ConteoConceptoDia;
+import com.turnosrotativos.service.EstadoValidacionLote;
+import com.turnosrotativos.service.SnapshotValidacion;
+import com.turnosrotativos.service.ValidadorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Validación en memoria de un lote de 50 jornadas contra una ventana de una semana o un mes con jornadas
+// ya cargadas, como en JornadaLoteService: armar el estado y validar y registrar cada fila
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class LoteBenchmark {
+
+    private static final int FILAS_LOTE = 50;
+    private static final int CONCEPTOS = 20;
+
+    @Param({"SEMANA", "MES"})
+    private TipoPeriodo ventana;
+
+    @Param({"10", "100", "500"})
+    private int jornadasExistentes;
+
+    private final ValidadorService validadorService = new ValidadorService(new SimpleMeterRegistry());
+    private final Map<Integer, ConceptoLaboral> conceptos = new HashMap<>();
+    private final Map<Integer, Empleado> empleados = new HashMap<>();
+    private List<AcumuladoJornada> acumulados;
+    private List<JornadaLaboral> existentes;
+    private List<ConteoConceptoDia> conteos;
+    private List<JornadaRequestDTO> lote;
+
+    @Setup
+    public void preparar() {
+        for (int id = 1; id <= CONCEPTOS; id++) {
+            conceptos.put(id, Datos.turnoNormalAdicional(id));
+        }
+        int dias = ventana == TipoPeriodo.SEMANA ? 5 : 20;
+        LocalDate inicio = ventana == TipoPeriodo.SEMANA ? Datos.LUNES : Datos.LUNES.withDayOfMonth(1);
+
+        // Cada empleado existente carga una jornada por día hábil de la ventana, rotando conceptos
+        existentes = new ArrayList<>();
+        Map<String, AcumuladoJornada> porPeriodo = new HashMap<>();
+        Map<String, Integer> porConceptoDia = new HashMap<>();
+        for (int i = 0; i < jornadasExistentes; i++) {
+            Empleado empleado = empleados.computeIfAbsent(1 + i / dias, Datos::empleado);
+            LocalDate fecha = inicio.plusDays((i % dias) + (i % dias) / 5 * 2);
+            ConceptoLaboral concepto = conceptos.get(1 + (i / 2) % CONCEPTOS);
+            JornadaLaboral jornada = Datos.jornada(i, empleado, concepto, fecha);
+            existentes.add(jornada);
+            for (TipoPeriodo tipo : TipoPeriodo.values()) {
+                LocalDate inicioPeriodo = AcumuladoJornada.inicioPeriodo(tipo, fecha);
+                porPeriodo.computeIfAbsent(empleado.getId() + "-" + tipo + "-" + inicioPeriodo,
+                        clave -> new AcumuladoJornada(empleado.getId(), tipo, inicioPeriodo)).registrar(jornada);
+            }
+            porConceptoDia.merge(fecha + "|" + concepto.getId(), 1, Integer::sum);
+        }
+        acumulados = new ArrayList<>(porPeriodo.values());
+        conteos = porConceptoDia.entrySet().stream()
+                .map(entrada -> conteo(entrada.getKey(), entrada.getValue()))
+                .toList();
+
+        // El lote mezcla empleados existentes y nuevos sobre los mismos días
+        lote = new ArrayList<>();
+        for (int i = 0; i < FILAS_LOTE; i++) {
+            Empleado empleado = empleados.computeIfAbsent(1 + i % (empleados.size() + 10), Datos::empleado);
+            LocalDate fecha = inicio.plusDays(i % dias);
+            lote.add(Datos.request(empleado, conceptos.get(1 + i % CONCEPTOS), fecha));
+        }
+    }
+
+    @Benchmark
+    public void validarLote(Blackhole blackhole) {
+        EstadoValidacionLote estado = new EstadoValidacionLote(acumulados, existentes, conteos);
+        for (JornadaRequestDTO request : lote) {
+            ConceptoLaboral concepto = conceptos.get(request.getIdConcepto());
+            Empleado empleado = empleados.get(request.getIdEmpleado());
+            try {
+                validadorService.validarHorasTrabajadas(concepto, request.getHorasTrabajadas());
+                SnapshotValidacion snapshot = estado.snapshot(empleado.getId(), request.getFecha(), concepto.getId());
+                validadorService.validarJornada(request, concepto, snapshot);
+                estado.registrar(request.toEntity(empleado, concepto));
+                blackhole.consume(snapshot);
+            } catch (BadRequestException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+    private static ConteoConceptoDia conteo(String clave, int cantidad) {
+        String[] partes = clave.split("\\|");
+        LocalDate fecha = LocalDate.parse(partes[0]);
+        Integer conceptoId = Integer.valueOf(partes[1]);
+        return new ConteoConceptoDia() {
+            @Override
+            public LocalDate getFecha() {
+                return fecha;
+            }
+
+            @Override
+            public Integer getConceptoId() {
+                return conceptoId;
+            }
+
+            @Override
+            public Long getCantidad() {
+                return (long) cantidad;
+            }
+        };
+    }
+}
@@ -0,0 +1,112 @@
+package com.turnosrotativos.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.JornadaResponseDTO;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Mapeo de entidades a DTOs y serialización JSON de las respuestas de listado
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class MapeoBenchmark {
+
+    private static final int EMPLEADOS_DISTINTOS = 500;
+
+    @Param({"10000", "100000", "1000000"})
+    private int filas;
+
+    // Configurado como el ObjectMapper de Spring Boot: fechas ISO en lugar de timestamps
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private List<JornadaLaboral> jornadas;
+    private List<Empleado> empleados;
+    private List<JornadaResponseDTO> respuestas;
+
+    @Setup
+    public void preparar() {
+        List<ConceptoLaboral> conceptos = List.of(Datos.turnoNormal(), Datos.turnoExtra(), Datos.diaLibre());
+        List<Empleado> plantel = new ArrayList<>();
+        for (int i = 1; i <= EMPLEADOS_DISTINTOS; i++) {
+            plantel.add(Datos.empleado(i));
+        }
+        jornadas = new ArrayList<>(filas);
+        empleados = new ArrayList<>(filas);
+        for (int i = 0; i < filas; i++) {
+            jornadas.add(Datos.jornada(i, plantel.get(i % EMPLEADOS_DISTINTOS), conceptos.get(i % 3),
+                    Datos.LUNES.plusDays(i / EMPLEADOS_DISTINTOS)));
+            empleados.add(Datos.empleado(i + 1));
+        }
+        respuestas = mapearJornadas();
+    }
+
+    @Benchmark
+    public List<JornadaResponseDTO> mapearJornadas() {
+        List<JornadaResponseDTO> dtos = new ArrayList<>(jornadas.size());
+        for (JornadaLaboral jornada : jornadas) {
+            dtos.add(JornadaResponseDTO.fromEntity(jornada));
+        }
+        return dtos;
+    }
+
+    // Lo que hace cada fila de la proyección de buscarPagina y streamJornadas
+    @Benchmark
+    public List<JornadaResponseDTO> proyectarJornadas() {
+        List<JornadaResponseDTO> dtos = new ArrayList<>(jornadas.size());
+        for (JornadaLaboral jornada : jornadas) {
+            Empleado empleado = jornada.getEmpleado();
+            ConceptoLaboral concepto = jornada.getConceptoLaboral();
+            dtos.add(new JornadaResponseDTO(jornada.getId(), empleado.getNroDocumento(), empleado.getNombre(),
+                    empleado.getApellido(), jornada.getFecha(), concepto.getNombre(), concepto.getLaborable(),
+                    jornada.getHorasTrabajadas()));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<EmpleadoDTO> mapearEmpleados() {
+        List<EmpleadoDTO> dtos = new ArrayList<>(empleados.size());
+        for (Empleado empleado : empleados) {
+            dtos.add(EmpleadoDTO.fromEntity(empleado));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public long serializarJornadas() throws IOException {
+        ContadorBytes salida = new ContadorBytes();
+        objectMapper.writeValue(salida, respuestas);
+        return salida.bytes;
+    }
+
+    // Descarta lo escrito y solo cuenta bytes, para medir la serialización sin el costo de guardarla
+    private static final class ContadorBytes extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
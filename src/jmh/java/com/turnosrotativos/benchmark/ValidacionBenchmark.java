@@ -0,0 +1,76 @@
+package com.turnosrotativos.benchmark;
+
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.service.SnapshotValidacion;
+import com.turnosrotativos.service.ValidadorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Validación de una jornada nueva tal como la hace crearJornada: snapshot a partir de los acumulados y de
+// las jornadas del día, y luego las reglas. El tamaño de la semana o el mes ya no influye porque vienen
+// de los acumulados; lo que crece es la lista del día (empleados con el mismo concepto y jornadas propias)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class ValidacionBenchmark {
+
+    @Param({"5", "50", "300"})
+    private int jornadasDelDia;
+
+    private final ValidadorService validadorService = new ValidadorService(new SimpleMeterRegistry());
+    private ConceptoLaboral turnoNormal;
+    private AcumuladoJornada semana;
+    private AcumuladoJornada mes;
+    private List<JornadaLaboral> delDia;
+    private JornadaRequestDTO request;
+    private Empleado empleado;
+    private LocalDate fecha;
+
+    @Setup
+    public void preparar() {
+        turnoNormal = Datos.turnoNormal();
+        ConceptoLaboral turnoExtra = Datos.turnoExtra();
+        empleado = Datos.empleado(1);
+        fecha = Datos.LUNES.plusDays(2);
+
+        // Semana y mes con jornadas previas del empleado, dentro de los topes
+        semana = new AcumuladoJornada(1, TipoPeriodo.SEMANA, AcumuladoJornada.inicioSemana(fecha));
+        mes = new AcumuladoJornada(1, TipoPeriodo.MES, AcumuladoJornada.inicioMes(fecha));
+        for (int dia = 0; dia < 2; dia++) {
+            JornadaLaboral previa = Datos.jornada(dia, empleado, turnoNormal, Datos.LUNES.plusDays(dia));
+            semana.registrar(previa);
+            mes.registrar(previa);
+        }
+        for (int dia = 1; dia < 6; dia++) {
+            mes.registrar(Datos.jornada(100 + dia, empleado, turnoNormal, Datos.LUNES.minusDays(dia)));
+        }
+
+        // Una jornada propia del día y el resto de otros empleados con conceptos distintos
+        delDia = new ArrayList<>();
+        delDia.add(Datos.jornada(1000, empleado, turnoExtra, fecha));
+        for (int i = 1; i < jornadasDelDia; i++) {
+            delDia.add(Datos.jornada(1000 + i, Datos.empleado(1 + i), Datos.turnoNormalAdicional(10 + i % 20), fecha));
+        }
+        request = Datos.request(empleado, turnoNormal, fecha);
+    }
+
+    @Benchmark
+    public SnapshotValidacion snapshotYValidacion() {
+        validadorService.validarHorasTrabajadas(turnoNormal, request.getHorasTrabajadas());
+        SnapshotValidacion snapshot = SnapshotValidacion.calcular(semana, mes, delDia, empleado.getId(), fecha, turnoNormal.getId());
+        validadorService.validarJornada(request, turnoNormal, snapshot);
+        return snapshot;
+    }
+}
@@ -2,6 +2,7 @@ package com.turnosrotativos.controller;
 
 import com.turnosrotativos.dto.ConceptoLaboralDTO;
 import com.turnosrotativos.service.ConceptoLaboralService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,9 +11,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
+@Timed("turnos.controlador")
 @RequestMapping("/concepto-laboral")
 public class ConceptoLaboralController {
 
@@ -21,12 +24,20 @@ public class ConceptoLaboralController {
     @Autowired
     private ConceptoLaboralService conceptoLaboralService;
 
+    // El ETag sale de las versiones de los conceptos en memoria: si coincide con If-None-Match se responde
+    // 304 sin filtrar ni mapear
     @GetMapping
     public ResponseEntity<List<ConceptoLaboralDTO>> obtenerConceptosLaborales(
             @RequestParam(required = false)Integer id,
-            @RequestParam(required = false)String nombre) {
-        logger.info("Solicitud recibida para obtener los conceptos laborales");
+            @RequestParam(required = false)String nombre,
+            WebRequest webRequest) {
+        logger.debug("Solicitud recibida para obtener los conceptos laborales");
+        String etag = "\"" + conceptoLaboralService.obtenerVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            logger.debug("Los conceptos laborales no cambiaron, se responde 304");
+            return null;
+        }
         List<ConceptoLaboralDTO> conceptos = conceptoLaboralService.obtenerConceptosLaborales(id, nombre);
-        return ResponseEntity.ok(conceptos);
+        return ResponseEntity.ok().eTag(etag).body(conceptos);
     }
 }
\ No newline at end of file
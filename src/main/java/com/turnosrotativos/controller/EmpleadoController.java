@@ -1,59 +1,130 @@
 package com.turnosrotativos.controller;
 
 import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.EmpleadoLoteResultadoDTO;
+import com.turnosrotativos.dto.PaginaEmpleadosDTO;
+import com.turnosrotativos.exception.PreconditionFailedException;
+import com.turnosrotativos.repository.FiltroEmpleados;
+import com.turnosrotativos.service.EmpleadoLoteService;
 import com.turnosrotativos.service.EmpleadoService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
+@Timed("turnos.controlador")
 @RequestMapping("/empleado")
 public class EmpleadoController {
 
     private static final Logger logger = LoggerFactory.getLogger(EmpleadoController.class);
+    private static final String HEADER_SIGUIENTE_PAGINA = "X-Siguiente-Pagina";
+    private static final String ETAG_INVALIDO = "El header If-Match debe ser un ETag devuelto por la API.";
 
     @Autowired
     private EmpleadoService empleadoService;
 
+    @Autowired
+    private EmpleadoLoteService empleadoLoteService;
+
     @PostMapping
     public ResponseEntity<EmpleadoDTO> crearEmpleado(@Valid @RequestBody EmpleadoDTO empleadoDTO) {
-        logger.info("Solicitud recibida para crear empleado");
+        logger.debug("Solicitud recibida para crear empleado");
         EmpleadoDTO empleadoCreado = empleadoService.crearEmpleado(empleadoDTO);
-        logger.info("Solicitud finalizada con éxito, empleado creado con Id: {}", empleadoCreado.getId());
+        logger.debug("Solicitud finalizada con éxito, empleado creado con Id: {}", empleadoCreado.getId());
         return new ResponseEntity<>(empleadoCreado, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<EmpleadoLoteResultadoDTO>> crearEmpleados(@RequestBody List<EmpleadoDTO> empleadosDTO) {
+        logger.debug("Solicitud recibida para crear un lote de empleados");
+        List<EmpleadoLoteResultadoDTO> resultados = empleadoLoteService.crearEmpleados(empleadosDTO);
+        logger.debug("Solicitud finalizada, lote de {} empleados procesado", resultados.size());
+        return ResponseEntity.ok(resultados);
+    }
+
+    // Con campos=nombre,apellido se devuelven solo esas columnas (y el id) de cada empleado
     @GetMapping
-    public ResponseEntity<List<EmpleadoDTO>> obtenerTodosEmpleados() {
-        logger.info("Solicitud recibida para obtener todos los empleados");
-        List<EmpleadoDTO> empleados = empleadoService.obtenerTodosLosEmpleados();
-        return ResponseEntity.ok(empleados);
+    public ResponseEntity<List<EmpleadoDTO>> obtenerEmpleados(
+            @RequestParam(required = false) String apellido,
+            @RequestParam(required = false) @Min(value = 1000000, message = "El número de documento debe tener al menos 7 dígitos.")
+            @Max(value = 99999999, message = "El número de documento no puede tener más de 8 dígitos.") Integer nroDocumento,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaIngresoDesde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaIngresoHasta,
+            @RequestParam(required = false) String campos,
+            @RequestParam(required = false) String orden,
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "La página no puede ser negativa.") Integer pagina,
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "El tamaño de página debe ser al menos 1.")
+            @Max(value = 1000, message = "El tamaño de página no puede ser mayor a 1000.") Integer tamanio) {
+        logger.debug("Solicitud recibida para obtener la página {} de empleados", pagina);
+        FiltroEmpleados filtro = new FiltroEmpleados(apellido, nroDocumento, fechaIngresoDesde, fechaIngresoHasta);
+        PaginaEmpleadosDTO paginaEmpleados = empleadoService.obtenerEmpleados(filtro, campos, orden, pagina, tamanio);
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok();
+        if (paginaEmpleados.siguientePagina() != null) {
+            respuesta.header(HEADER_SIGUIENTE_PAGINA, String.valueOf(paginaEmpleados.siguientePagina()));
+        }
+        return respuesta.body(paginaEmpleados.empleados());
     }
 
+    // Con If-None-Match solo se consulta la versión: si no cambió se responde 304 sin cargar el empleado
     @GetMapping("/{empleadoId}")
-    public ResponseEntity<EmpleadoDTO> obtenerEmpleado(@PathVariable Integer empleadoId) {
-        logger.info("Solicitud recibida para obtener un empleado con el Id: {}", empleadoId);
+    public ResponseEntity<EmpleadoDTO> obtenerEmpleado(@PathVariable Integer empleadoId,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                       WebRequest webRequest) {
+        logger.debug("Solicitud recibida para obtener un empleado con el Id: {}", empleadoId);
+        if (ifNoneMatch != null && webRequest.checkNotModified(etag(empleadoService.obtenerVersionEmpleado(empleadoId)))) {
+            logger.debug("El empleado con Id: {} no cambió, se responde 304", empleadoId);
+            return null;
+        }
         EmpleadoDTO empleado = empleadoService.obtenerEmpleadoPorId(empleadoId);
-        return new ResponseEntity<>(empleado, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag(empleado.getVersion())).body(empleado);
     }
 
+    // If-Match es opcional: si viene, la actualización solo se aplica sobre esa versión del empleado
     @PutMapping("/{empleadoId}")
-    public ResponseEntity<EmpleadoDTO> actualizarEmpleado(@PathVariable("empleadoId") Integer empleadoId, @Valid @RequestBody EmpleadoDTO empleadoDTO) {
-        logger.info("Solicitud recibida para actualizar al empleado con el Id: {}", empleadoId);
-        EmpleadoDTO empleadoActualizado = empleadoService.actualizarEmpleado(empleadoId, empleadoDTO);
-        logger.info("Solicitud finalizada con éxito, empleado actualizado con Id: {}", empleadoId);
-        return ResponseEntity.ok(empleadoActualizado);
+    public ResponseEntity<EmpleadoDTO> actualizarEmpleado(@PathVariable("empleadoId") Integer empleadoId, @Valid @RequestBody EmpleadoDTO empleadoDTO,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.debug("Solicitud recibida para actualizar al empleado con el Id: {}", empleadoId);
+        EmpleadoDTO empleadoActualizado = empleadoService.actualizarEmpleado(empleadoId, empleadoDTO, versionDe(ifMatch));
+        logger.debug("Solicitud finalizada con éxito, empleado actualizado con Id: {}", empleadoId);
+        return ResponseEntity.ok().eTag(etag(empleadoActualizado.getVersion())).body(empleadoActualizado);
     }
 
     @DeleteMapping("/{empleadoId}")
     public ResponseEntity<Void> eliminarEmpleado(@PathVariable Integer empleadoId) {
-        logger.info("Solicitud recibida para eliminar empleado con Id: {}", empleadoId);
+        logger.debug("Solicitud recibida para eliminar empleado con Id: {}", empleadoId);
         empleadoService.eliminarEmpleado(empleadoId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
-}
\ No newline at end of file
+
+    private static String etag(Integer version) {
+        return "\"" + version + "\"";
+    }
+
+    // Acepta el ETag tal como se devolvió ("3"). Con * o sin header no se exige una versión
+    private static Integer versionDe(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.length() < 3 || !valor.startsWith("\"") || !valor.endsWith("\"")) {
+            throw new PreconditionFailedException(ETAG_INVALIDO);
+        }
+        try {
+            return Integer.valueOf(valor.substring(1, valor.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException(ETAG_INVALIDO);
+        }
+    }
+}
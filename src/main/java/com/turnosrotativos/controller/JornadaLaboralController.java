@@ -1,8 +1,19 @@
 package com.turnosrotativos.controller;
 
+import com.turnosrotativos.dto.DisponibilidadEmpleadoDTO;
+import com.turnosrotativos.dto.JornadaLoteResultadoDTO;
 import com.turnosrotativos.dto.JornadaRequestDTO;
 import com.turnosrotativos.dto.JornadaResponseDTO;
+import com.turnosrotativos.dto.PaginaJornadasDTO;
+import com.turnosrotativos.dto.ResumenJornadaDTO;
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.model.FormatoExportacion;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.service.DisponibilidadService;
+import com.turnosrotativos.service.ExportacionJornadasService;
 import com.turnosrotativos.service.JornadaLaboralService;
+import com.turnosrotativos.service.JornadaLoteService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -10,37 +21,146 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
+@Timed("turnos.controlador")
 @RequestMapping("/jornada")
 public class JornadaLaboralController {
 
     private static final Logger logger = LoggerFactory.getLogger(JornadaLaboralController.class);
+    private static final String HEADER_SIGUIENTE_CURSOR = "X-Siguiente-Cursor";
+    private static final int TAMANIO_BUFFER_GZIP = 64 * 1024;
 
     @Autowired
     private JornadaLaboralService jornadaLaboralService;
 
+    @Autowired
+    private JornadaLoteService jornadaLoteService;
+
+    @Autowired
+    private ExportacionJornadasService exportacionJornadasService;
+
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
     @PostMapping
     public ResponseEntity<JornadaResponseDTO> crearJornada(@Valid @RequestBody JornadaRequestDTO requestDTO) {
-        logger.info("Solicitud recibida para crear jornada laboral");
+        logger.debug("Solicitud recibida para crear jornada laboral");
         JornadaResponseDTO responseDTO = jornadaLaboralService.crearJornada(requestDTO);
-        logger.info("Solicitud finalizada con éxito, jornada laboral creada con Id: {}", responseDTO.getId());
+        logger.debug("Solicitud finalizada con éxito, jornada laboral creada con Id: {}", responseDTO.getId());
         return new ResponseEntity<>(responseDTO, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<JornadaLoteResultadoDTO>> crearJornadas(@RequestBody List<JornadaRequestDTO> requestDTOs) {
+        logger.debug("Solicitud recibida para crear un lote de jornadas laborales");
+        List<JornadaLoteResultadoDTO> resultados = jornadaLoteService.crearJornadas(requestDTOs);
+        logger.debug("Solicitud finalizada, lote de {} jornadas procesado", resultados.size());
+        return ResponseEntity.ok(resultados);
+    }
+
     @GetMapping
     public ResponseEntity<List<JornadaResponseDTO>> obtenerJornadas(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaDesde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaHasta,
+            @RequestParam(required = false) @Min(value = 1000000, message = "El número de documento debe tener al menos 7 dígitos.")
+            @Max(value = 99999999, message = "El número de documento no puede tener más de 8 dígitos.") Integer nroDocumento,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "El límite debe ser al menos 1.")
+            @Max(value = 1000, message = "El límite no puede ser mayor a 1000.") Integer limite) {
+        logger.debug("Solicitud recibida para obtener las jornadas laborales");
+        PaginaJornadasDTO pagina = jornadaLaboralService.obtenerJornadas(fechaDesde, fechaHasta, nroDocumento, cursor, limite);
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok();
+        if (pagina.siguienteCursor() != null) {
+            respuesta.header(HEADER_SIGUIENTE_CURSOR, pagina.siguienteCursor());
+        }
+        return respuesta.body(pagina.jornadas());
+    }
+
+    // Con formato=ndjson se devuelven todas las jornadas del filtro, una por línea, sin paginar
+    @GetMapping(params = "formato=ndjson")
+    public ResponseEntity<StreamingResponseBody> obtenerJornadasNdjson(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaDesde,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaHasta,
             @RequestParam(required = false) @Min(value = 1000000, message = "El número de documento debe tener al menos 7 dígitos.")
             @Max(value = 99999999, message = "El número de documento no puede tener más de 8 dígitos.") Integer nroDocumento) {
-        logger.info("Solicitud recibida para obtener las jornadas laborales");
-        List<JornadaResponseDTO> jornadas = jornadaLaboralService.obtenerJornadas(fechaDesde, fechaHasta, nroDocumento);
-        return new ResponseEntity<>(jornadas, HttpStatus.OK);
+        logger.debug("Solicitud recibida para exportar las jornadas laborales en NDJSON");
+        StreamingResponseBody cuerpo = outputStream ->
+                jornadaLaboralService.exportarJornadasNdjson(fechaDesde, fechaHasta, nroDocumento, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(cuerpo);
+    }
+
+    @GetMapping("/resumen")
+    public ResponseEntity<List<ResumenJornadaDTO>> obtenerResumen(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaDesde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaHasta,
+            @RequestParam(required = false) @Min(value = 1000000, message = "El número de documento debe tener al menos 7 dígitos.")
+            @Max(value = 99999999, message = "El número de documento no puede tener más de 8 dígitos.") Integer nroDocumento,
+            @RequestParam(defaultValue = "SEMANA") TipoPeriodo agrupacion) {
+        logger.debug("Solicitud recibida para obtener el resumen de jornadas por {}", agrupacion);
+        return ResponseEntity.ok(jornadaLaboralService.obtenerResumen(fechaDesde, fechaHasta, nroDocumento, agrupacion));
+    }
+
+    // Empleados que todavía pueden tomar el concepto en la fecha, ordenados por horas disponibles
+    @GetMapping("/disponibilidad")
+    public ResponseEntity<List<DisponibilidadEmpleadoDTO>> obtenerDisponibilidad(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha,
+            @RequestParam Integer concepto) {
+        logger.debug("Solicitud recibida para obtener la disponibilidad del concepto {} el {}", concepto, fecha);
+        return ResponseEntity.ok(disponibilidadService.obtenerDisponibles(fecha, concepto));
+    }
+
+    // Extracto de todas las jornadas de un mes. Si el cliente acepta gzip, la salida se comprime al escribirla
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportarJornadas(
+            @RequestParam(defaultValue = "csv") String formato,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth mes,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        logger.debug("Solicitud recibida para exportar las jornadas de {} en {}", mes, formato);
+        FormatoExportacion formatoExportacion = formatoDe(formato);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody cuerpo = outputStream -> {
+            OutputStream salida = gzip ? new GZIPOutputStream(outputStream, TAMANIO_BUFFER_GZIP) : outputStream;
+            exportacionJornadasService.exportar(mes, formatoExportacion, salida);
+            if (salida instanceof GZIPOutputStream gzipOutputStream) {
+                gzipOutputStream.finish();
+            }
+        };
+        String extension = formatoExportacion == FormatoExportacion.CSV ? "csv" : "ndjson";
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+                .contentType(formatoExportacion == FormatoExportacion.CSV
+                        ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("jornadas-" + mes + "." + extension).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            respuesta.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return respuesta.body(cuerpo);
+    }
+
+    // Acepta el formato en minúsculas o mayúsculas, como llega en ?formato=csv
+    private static FormatoExportacion formatoDe(String formato) {
+        for (FormatoExportacion valor : FormatoExportacion.values()) {
+            if (valor.name().equalsIgnoreCase(formato)) {
+                return valor;
+            }
+        }
+        throw new BadRequestException("El formato de exportación debe ser 'csv' o 'ndjson'.");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.turnosrotativos.controller;
+
+import com.turnosrotativos.dto.RotacionGeneradaDTO;
+import com.turnosrotativos.service.RotacionService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.time.YearMonth;
+
+@RestController
+@Timed("turnos.controlador")
+@RequestMapping("/rotacion")
+public class RotacionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RotacionController.class);
+
+    @Autowired
+    private RotacionService rotacionService;
+
+    @PostMapping("/generar")
+    public ResponseEntity<RotacionGeneradaDTO> generarRotacion(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth mes) {
+        logger.debug("Solicitud recibida para generar la rotación de {}", mes);
+        RotacionGeneradaDTO rotacion = rotacionService.generar(mes);
+        logger.debug("Solicitud finalizada, rotación de {} con {} jornadas", mes, rotacion.jornadasCreadas());
+        return new ResponseEntity<>(rotacion, HttpStatus.CREATED);
+    }
+}
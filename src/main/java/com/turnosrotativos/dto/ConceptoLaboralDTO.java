@@ -1,6 +1,7 @@
 package com.turnosrotativos.dto;
 
 import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.TipoConcepto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -11,6 +12,10 @@ public class ConceptoLaboralDTO {
     private Integer hsMinimo;
     private Integer hsMaximo;
     private Boolean laborable;
+    private TipoConcepto tipo;
+    private Integer maxEmpleadosDia;
+    private Integer maxSemanal;
+    private Integer maxMensual;
 
     public ConceptoLaboralDTO(Integer id, String nombre, Integer hsMinimo, Integer hsMaximo, Boolean laborable) {
         this.id = id;
@@ -27,6 +32,10 @@ public class ConceptoLaboralDTO {
         dto.setId(concepto.getId());
         dto.setLaborable(concepto.getLaborable());
         dto.setNombre(concepto.getNombre());
+        dto.setTipo(concepto.getTipo());
+        dto.setMaxEmpleadosDia(concepto.getMaxEmpleadosDia());
+        dto.setMaxSemanal(concepto.getMaxSemanal());
+        dto.setMaxMensual(concepto.getMaxMensual());
         if (concepto.getHsMaximo() != null) {
             dto.setHsMaximo(concepto.getHsMaximo());
         }
@@ -43,6 +52,10 @@ public class ConceptoLaboralDTO {
         conceptoLaboral.setHsMinimo(this.hsMinimo);
         conceptoLaboral.setHsMaximo(this.hsMaximo);
         conceptoLaboral.setLaborable(this.laborable);
+        conceptoLaboral.setTipo(this.tipo);
+        conceptoLaboral.setMaxEmpleadosDia(this.maxEmpleadosDia);
+        conceptoLaboral.setMaxSemanal(this.maxSemanal);
+        conceptoLaboral.setMaxMensual(this.maxMensual);
         return conceptoLaboral;
     }
 
@@ -85,4 +98,36 @@ public class ConceptoLaboralDTO {
     public void setLaborable(Boolean laborable) {
         this.laborable = laborable;
     }
+
+    public TipoConcepto getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoConcepto tipo) {
+        this.tipo = tipo;
+    }
+
+    public Integer getMaxEmpleadosDia() {
+        return maxEmpleadosDia;
+    }
+
+    public void setMaxEmpleadosDia(Integer maxEmpleadosDia) {
+        this.maxEmpleadosDia = maxEmpleadosDia;
+    }
+
+    public Integer getMaxSemanal() {
+        return maxSemanal;
+    }
+
+    public void setMaxSemanal(Integer maxSemanal) {
+        this.maxSemanal = maxSemanal;
+    }
+
+    public Integer getMaxMensual() {
+        return maxMensual;
+    }
+
+    public void setMaxMensual(Integer maxMensual) {
+        this.maxMensual = maxMensual;
+    }
 }
@@ -0,0 +1,29 @@
+package com.turnosrotativos.dto;
+
+import com.turnosrotativos.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Token opaco con la (fecha, id) de la última jornada devuelta en una página
+public record CursorJornada(LocalDate fecha, Integer id) {
+
+    public String codificar() {
+        String valor = fecha + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorJornada decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = valor.split("\\|");
+            if (partes.length != 2) {
+                throw new BadRequestException("El cursor ingresado no es válido.");
+            }
+            return new CursorJornada(LocalDate.parse(partes[0]), Integer.valueOf(partes[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("El cursor ingresado no es válido.");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.turnosrotativos.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Empleado que puede tomar el concepto en la fecha, con lo que le queda disponible. Los cupos sin tope
+// en el concepto se omiten
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DisponibilidadEmpleadoDTO(Integer idEmpleado, Integer nroDocumento, String nombreCompleto,
+                                        Integer horasDisponibles, int horasRestantesDia, int horasRestantesSemana,
+                                        int horasRestantesMes, Integer cupoRestanteSemana, Integer cupoRestanteMes,
+                                        Integer diasLibresRestantesSemana, Integer diasLibresRestantesMes) {
+}
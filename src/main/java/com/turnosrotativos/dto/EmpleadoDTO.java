@@ -1,12 +1,15 @@
 package com.turnosrotativos.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.turnosrotativos.model.Empleado;
 import jakarta.validation.constraints.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
 
+// Sin los campos nulos, así el listado con campos=... devuelve solo las columnas pedidas
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class EmpleadoDTO {
 
     private Integer id;
@@ -36,6 +39,10 @@ public class EmpleadoDTO {
 
     private LocalDateTime fechaCreacion;
 
+    // No viaja en el cuerpo: el cliente la recibe como ETag y la devuelve en If-Match
+    @JsonIgnore
+    private Integer version;
+
     public EmpleadoDTO(Integer id, String nombre, String apellido,
                        String email, Integer nroDocumento,
                        LocalDate fechaNacimiento, LocalDate fechaIngreso) {
@@ -74,6 +81,7 @@ public class EmpleadoDTO {
                 empleado.getFechaIngreso()
         );
         dto.setFechaCreacion(empleado.getFechaCreacion());
+        dto.setVersion(empleado.getVersion());
         return dto;
     }
 
@@ -141,6 +149,14 @@ public class EmpleadoDTO {
         this.fechaCreacion = fechaCreacion;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     //Validaciones básicas con anotaciones personalizadas
     @JsonIgnore
     @AssertTrue(message = "La fecha de ingreso no puede ser posterior al día de la fecha.")
@@ -0,0 +1,60 @@
+package com.turnosrotativos.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmpleadoLoteResultadoDTO {
+
+    private Integer indice;
+    private Integer status;
+    private EmpleadoDTO empleado;
+    private String mensaje;
+
+    public static EmpleadoLoteResultadoDTO creado(Integer indice, EmpleadoDTO empleado) {
+        EmpleadoLoteResultadoDTO dto = new EmpleadoLoteResultadoDTO();
+        dto.setIndice(indice);
+        dto.setStatus(201);
+        dto.setEmpleado(empleado);
+        return dto;
+    }
+
+    public static EmpleadoLoteResultadoDTO rechazado(Integer indice, Integer status, String mensaje) {
+        EmpleadoLoteResultadoDTO dto = new EmpleadoLoteResultadoDTO();
+        dto.setIndice(indice);
+        dto.setStatus(status);
+        dto.setMensaje(mensaje);
+        return dto;
+    }
+
+    public Integer getIndice() {
+        return indice;
+    }
+
+    public void setIndice(Integer indice) {
+        this.indice = indice;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    public EmpleadoDTO getEmpleado() {
+        return empleado;
+    }
+
+    public void setEmpleado(EmpleadoDTO empleado) {
+        this.empleado = empleado;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    public void setMensaje(String mensaje) {
+        this.mensaje = mensaje;
+    }
+}
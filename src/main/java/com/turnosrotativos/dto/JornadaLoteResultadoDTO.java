@@ -0,0 +1,60 @@
+package com.turnosrotativos.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JornadaLoteResultadoDTO {
+
+    private Integer indice;
+    private Integer status;
+    private JornadaResponseDTO jornada;
+    private String mensaje;
+
+    public static JornadaLoteResultadoDTO creada(Integer indice, JornadaResponseDTO jornada) {
+        JornadaLoteResultadoDTO dto = new JornadaLoteResultadoDTO();
+        dto.setIndice(indice);
+        dto.setStatus(201);
+        dto.setJornada(jornada);
+        return dto;
+    }
+
+    public static JornadaLoteResultadoDTO rechazada(Integer indice, Integer status, String mensaje) {
+        JornadaLoteResultadoDTO dto = new JornadaLoteResultadoDTO();
+        dto.setIndice(indice);
+        dto.setStatus(status);
+        dto.setMensaje(mensaje);
+        return dto;
+    }
+
+    public Integer getIndice() {
+        return indice;
+    }
+
+    public void setIndice(Integer indice) {
+        this.indice = indice;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    public JornadaResponseDTO getJornada() {
+        return jornada;
+    }
+
+    public void setJornada(JornadaResponseDTO jornada) {
+        this.jornada = jornada;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    public void setMensaje(String mensaje) {
+        this.mensaje = mensaje;
+    }
+}
@@ -16,6 +16,22 @@ public class JornadaResponseDTO {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private Integer horasTrabajadas;
 
+    public JornadaResponseDTO() {
+    }
+
+    // Usado por las consultas que proyectan directo a este DTO, sin cargar las entidades
+    public JornadaResponseDTO(Integer id, Integer nroDocumento, String nombre, String apellido,
+                              LocalDate fecha, String concepto, Boolean laborable, Integer horasTrabajadas) {
+        this.id = id;
+        this.nroDocumento = nroDocumento;
+        this.nombreCompleto = nombre + " " + apellido;
+        this.fecha = fecha;
+        this.concepto = concepto;
+        if (Boolean.TRUE.equals(laborable)) {
+            this.horasTrabajadas = horasTrabajadas;
+        }
+    }
+
     public static JornadaResponseDTO fromEntity(JornadaLaboral jornadaLaboral) {
         JornadaResponseDTO dto = new JornadaResponseDTO();
         dto.setId(jornadaLaboral.getId());
@@ -23,7 +39,7 @@ public class JornadaResponseDTO {
         dto.setNombreCompleto(jornadaLaboral.getEmpleado().getNombre() + " " + jornadaLaboral.getEmpleado().getApellido());
         dto.setFecha(jornadaLaboral.getFecha());
         dto.setConcepto(jornadaLaboral.getConceptoLaboral().getNombre());
-        if (!"Día Libre".equals(jornadaLaboral.getConceptoLaboral().getNombre())) {
+        if (jornadaLaboral.getConceptoLaboral().esLaborable()) {
             dto.setHorasTrabajadas(jornadaLaboral.getHorasTrabajadas());
         }
         return dto;
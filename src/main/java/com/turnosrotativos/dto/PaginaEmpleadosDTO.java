@@ -0,0 +1,6 @@
+package com.turnosrotativos.dto;
+
+import java.util.List;
+
+public record PaginaEmpleadosDTO(List<EmpleadoDTO> empleados, Integer siguientePagina) {
+}
@@ -0,0 +1,6 @@
+package com.turnosrotativos.dto;
+
+import java.util.List;
+
+public record PaginaJornadasDTO(List<JornadaResponseDTO> jornadas, String siguienteCursor) {
+}
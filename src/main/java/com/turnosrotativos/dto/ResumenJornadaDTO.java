@@ -0,0 +1,15 @@
+package com.turnosrotativos.dto;
+
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.repository.ResumenJornadaFila;
+import java.time.LocalDate;
+
+public record ResumenJornadaDTO(Integer nroDocumento, String nombreCompleto, TipoPeriodo periodo,
+                                LocalDate inicioPeriodo, String concepto, long cantidadJornadas,
+                                long horasTrabajadas) {
+
+    public static ResumenJornadaDTO fromFila(ResumenJornadaFila fila, TipoPeriodo periodo) {
+        return new ResumenJornadaDTO(fila.getNroDocumento(), fila.getNombre() + " " + fila.getApellido(), periodo,
+                fila.getInicioPeriodo(), fila.getConcepto(), fila.getCantidad(), fila.getHoras());
+    }
+}
@@ -0,0 +1,8 @@
+package com.turnosrotativos.dto;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+public record RotacionGeneradaDTO(YearMonth mes, int empleados, int jornadasCreadas, int jornadasRechazadas,
+                                  Map<String, Long> jornadasPorConcepto, long milisegundos) {
+}
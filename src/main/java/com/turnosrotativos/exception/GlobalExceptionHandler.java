@@ -7,14 +7,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -30,15 +34,25 @@ public class GlobalExceptionHandler {
         return buildResponse(errorMessages.toString().trim(), HttpStatus.BAD_REQUEST);
     }
 
+    // El mensaje se arma con el nombre del parámetro y el tipo esperado, sin devolver el texto de la conversión
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<Map<String, Object>> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        String campo = e.getName();
+        Class<?> tipo = e.getRequiredType();
         String errorMessage;
-        if (e.getRequiredType() == LocalDate.class) {
+        if (tipo == LocalDate.class && (campo.equals("fechaDesde") || campo.equals("fechaHasta"))) {
             errorMessage = "Los campos ‘fechaDesde’ y ‘fechaHasta’ deben respetar el formato yyyy-mm-dd.";
-        } else if (e.getRequiredType() == Integer.class) {
-            errorMessage = "El campo ‘nroDocumento’ solo puede contener números enteros.";
+        } else if (tipo == LocalDate.class) {
+            errorMessage = "El campo ‘" + campo + "’ debe respetar el formato yyyy-mm-dd.";
+        } else if (tipo == YearMonth.class) {
+            errorMessage = "El campo ‘" + campo + "’ debe respetar el formato yyyy-mm.";
+        } else if (tipo == Integer.class || tipo == Long.class) {
+            errorMessage = "El campo ‘" + campo + "’ solo puede contener números enteros.";
+        } else if (tipo != null && tipo.isEnum()) {
+            errorMessage = "El campo ‘" + campo + "’ debe ser uno de: " + Arrays.stream(tipo.getEnumConstants())
+                    .map(Object::toString).collect(Collectors.joining(", ")) + ".";
         } else {
-            errorMessage = e.getMessage();
+            errorMessage = "El campo ‘" + campo + "’ tiene un valor inválido.";
         }
         return buildResponse(errorMessage, HttpStatus.BAD_REQUEST);
     }
@@ -53,6 +67,18 @@ public class GlobalExceptionHandler {
         return buildResponse(e.getMessage(), HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, Object>> handlePreconditionFailedException(PreconditionFailedException e) {
+        return buildResponse(e.getMessage(), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Otra transacción modificó la misma fila entre la lectura y el commit
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        logger.warn("Actualización concurrente rechazada: {}", e.getMessage());
+        return buildResponse("El recurso fue modificado por otra solicitud. Volvé a consultarlo e intentá de nuevo.", HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleNotFoundException(NotFoundException e) {
         return buildResponse(e.getMessage(), HttpStatus.NOT_FOUND);
@@ -64,23 +90,28 @@ public class GlobalExceptionHandler {
     }
 
     //Al tener las columnas nro_documento y email con unique violaban integridad de datos
-    //se catchean y se controlan desde aca
+    //se catchean y se controlan desde aca. Los nombres de las restricciones son los de las migraciones
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<Map<String, Object>> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
         Throwable cause = ex.getCause();
         if (cause instanceof ConstraintViolationException constraintViolation) {
             String constraintName = constraintViolation.getConstraintName();
             if (constraintName != null) {
-                // CONSTRAINT_INDEX_42 --> EMAIL
-                if (constraintName.contains("CONSTRAINT_INDEX_42")) {
+                constraintName = constraintName.toUpperCase();
+                if (constraintName.contains("UK_EMPLEADOS_EMAIL")) {
                     logger.error("Violación de restricción de unicidad para email");
                     return buildResponse("Ya existe un empleado con el email ingresado.", HttpStatus.CONFLICT);
                 }
-                // CONSTRAINT_INDEX_4 --> NRO_DOCUMENTO
-                else if (constraintName.contains("CONSTRAINT_INDEX_4")) {
+                else if (constraintName.contains("UK_EMPLEADOS_DOCUMENTO")) {
                     logger.error("Violación de restricción de unicidad para documento");
                     return buildResponse("Ya existe un empleado con el documento ingresado.", HttpStatus.CONFLICT);
                 }
+                // Respaldo de validarConceptoDuplicadoPorDia si dos altas llegaran a pasar la validación
+                else if (constraintName.contains("UK_JORNADA_LABORAL_EMPLEADO_FECHA_CONCEPTO")) {
+                    logger.error("Violación de restricción de unicidad para jornada por empleado, fecha y concepto");
+                    return buildResponse("El empleado ya tiene registrado una jornada con este concepto en la fecha ingresada.",
+                            HttpStatus.BAD_REQUEST);
+                }
             }
         }
         // Si no hay coincidencias específicas, manejar como un conflicto genérico
@@ -0,0 +1,40 @@
+package com.turnosrotativos.listener;
+
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.service.RegistroConceptos;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Invalida el registro de conceptos cuando se da de alta, modifica o borra un concepto por JPA.
+// Si hay transacción se espera al commit, para que la recarga no vuelva a leer el dato anterior.
+// Se registra en META-INF/orm.xml, así la entidad no depende de los servicios
+@Component
+public class ConceptoLaboralListener {
+
+    private final RegistroConceptos registroConceptos;
+
+    public ConceptoLaboralListener(@Lazy RegistroConceptos registroConceptos) {
+        this.registroConceptos = registroConceptos;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void conceptoModificado(ConceptoLaboral concepto) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registroConceptos.invalidar();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registroConceptos.invalidar();
+            }
+        });
+    }
+}
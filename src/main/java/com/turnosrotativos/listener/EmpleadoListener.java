@@ -0,0 +1,57 @@
+package com.turnosrotativos.listener;
+
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.service.IndiceIdentidad;
+import com.turnosrotativos.service.RegistroEmpleados;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Mantiene al día la caché de empleados y el índice de identidad cuando se da de alta, modifica o borra un
+// empleado por JPA. Las altas no tocan la caché porque no guarda ausencias. Si hay transacción se espera
+// al commit, igual que con los conceptos. Se registra en META-INF/orm.xml, igual que ConceptoLaboralListener
+@Component
+public class EmpleadoListener {
+
+    private final RegistroEmpleados registroEmpleados;
+    private final IndiceIdentidad indiceIdentidad;
+
+    public EmpleadoListener(@Lazy RegistroEmpleados registroEmpleados, @Lazy IndiceIdentidad indiceIdentidad) {
+        this.registroEmpleados = registroEmpleados;
+        this.indiceIdentidad = indiceIdentidad;
+    }
+
+    @PostPersist
+    public void empleadoCreado(Empleado empleado) {
+        indiceIdentidad.registrar(empleado.getId(), empleado.getNroDocumento(), empleado.getEmail());
+    }
+
+    @PostUpdate
+    public void empleadoModificado(Empleado empleado) {
+        invalidar(empleado.getId());
+        indiceIdentidad.registrar(empleado.getId(), empleado.getNroDocumento(), empleado.getEmail());
+    }
+
+    @PostRemove
+    public void empleadoEliminado(Empleado empleado) {
+        invalidar(empleado.getId());
+        indiceIdentidad.quitar(empleado.getId());
+    }
+
+    private void invalidar(Integer id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registroEmpleados.invalidar(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registroEmpleados.invalidar(id);
+            }
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.turnosrotativos.logging;
+
+import org.slf4j.MDC;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import java.util.concurrent.Callable;
+
+// Las respuestas en streaming, como la exportación y el listado NDJSON, se escriben en un hilo del ejecutor
+// asincrónico de Spring MVC. Este interceptor pone ahí el id de correlación de la solicitud mientras se escribe
+public class IdCorrelacionAsincronico implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object idCorrelacion = request.getAttribute(IdCorrelacionFilter.ATRIBUTO_ID_CORRELACION, RequestAttributes.SCOPE_REQUEST);
+        if (idCorrelacion != null) {
+            MDC.put(IdCorrelacionFilter.MDC_ID_CORRELACION, idCorrelacion.toString());
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        MDC.remove(IdCorrelacionFilter.MDC_ID_CORRELACION);
+    }
+}
@@ -0,0 +1,66 @@
+package com.turnosrotativos.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// Asigna un id de correlación a cada solicitud (el que manda el cliente en X-Correlation-Id o uno nuevo),
+// lo deja en el MDC para que aparezca en todas las líneas de log de la solicitud y lo devuelve en la
+// respuesta. Al terminar escribe una única línea de resumen con método, ruta, status y duración. Las
+// respuestas en streaming terminan en un despacho asincrónico: el resumen se escribe al final de ese
+// despacho, con el status definitivo y el tiempo de escritura incluido
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IdCorrelacionFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_ID_CORRELACION = "X-Correlation-Id";
+    public static final String MDC_ID_CORRELACION = "idCorrelacion";
+    // El id queda también en la solicitud, para recuperarlo en el despacho asincrónico y en el hilo que escribe
+    public static final String ATRIBUTO_ID_CORRELACION = IdCorrelacionFilter.class.getName() + ".id";
+
+    private static final String ATRIBUTO_INICIO = IdCorrelacionFilter.class.getName() + ".inicio";
+    private static final Logger logger = LoggerFactory.getLogger(IdCorrelacionFilter.class);
+    private static final Pattern ID_VALIDO = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idCorrelacion = (String) request.getAttribute(ATRIBUTO_ID_CORRELACION);
+        if (idCorrelacion == null) {
+            idCorrelacion = request.getHeader(HEADER_ID_CORRELACION);
+            if (idCorrelacion == null || !ID_VALIDO.matcher(idCorrelacion).matches()) {
+                idCorrelacion = UUID.randomUUID().toString();
+            }
+            request.setAttribute(ATRIBUTO_ID_CORRELACION, idCorrelacion);
+            request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
+            response.setHeader(HEADER_ID_CORRELACION, idCorrelacion);
+        }
+        MDC.put(MDC_ID_CORRELACION, idCorrelacion);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Si la solicitud siguió en modo asincrónico, el resumen lo escribe el despacho que la termina
+            if (!request.isAsyncStarted()) {
+                logger.info("{} {} -> {} en {} ms", request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        (System.nanoTime() - (long) request.getAttribute(ATRIBUTO_INICIO)) / 1_000_000);
+            }
+            MDC.remove(MDC_ID_CORRELACION);
+        }
+    }
+}
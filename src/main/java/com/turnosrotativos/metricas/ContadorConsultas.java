@@ -0,0 +1,24 @@
+package com.turnosrotativos.metricas;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate pasa por acá cada sentencia SQL que prepara. Se cuentan por hilo para saber cuántas
+// consultas hizo cada solicitud HTTP; lo registra ConsultasPorSolicitudInterceptor
+public class ContadorConsultas implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CONSULTAS = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        CONSULTAS.get()[0]++;
+        return sql;
+    }
+
+    public static void reiniciar() {
+        CONSULTAS.get()[0] = 0;
+    }
+
+    public static int obtener() {
+        return CONSULTAS.get()[0];
+    }
+}
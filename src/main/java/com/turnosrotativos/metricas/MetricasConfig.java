@@ -0,0 +1,111 @@
+package com.turnosrotativos.metricas;
+
+import com.turnosrotativos.service.CalendarioOcupacion;
+import com.turnosrotativos.service.IndiceIdentidad;
+import com.turnosrotativos.service.RegistroConceptos;
+import com.turnosrotativos.service.RegistroEmpleados;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricasConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricasConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConsultasPorSolicitudInterceptor(meterRegistry));
+    }
+
+    @Bean
+    public MeterBinder metricasRegistroConceptos(RegistroConceptos registroConceptos) {
+        return registry -> {
+            FunctionCounter.builder("turnos.conceptos.registro", registroConceptos, RegistroConceptos::getAciertos)
+                    .description("Consultas al registro de conceptos laborales")
+                    .tag("resultado", "acierto")
+                    .register(registry);
+            FunctionCounter.builder("turnos.conceptos.registro", registroConceptos, RegistroConceptos::getFallos)
+                    .description("Consultas al registro de conceptos laborales")
+                    .tag("resultado", "fallo")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder metricasCalendarioOcupacion(CalendarioOcupacion calendarioOcupacion) {
+        return registry -> {
+            FunctionCounter.builder("turnos.calendario.consultas", calendarioOcupacion, CalendarioOcupacion::getAciertos)
+                    .description("Consultas al calendario de ocupación")
+                    .tag("resultado", "acierto")
+                    .register(registry);
+            FunctionCounter.builder("turnos.calendario.consultas", calendarioOcupacion, CalendarioOcupacion::getFallos)
+                    .description("Consultas al calendario de ocupación")
+                    .tag("resultado", "fallo")
+                    .register(registry);
+            FunctionCounter.builder("turnos.calendario.consultas", calendarioOcupacion, CalendarioOcupacion::getDesactualizados)
+                    .description("Consultas al calendario de ocupación")
+                    .tag("resultado", "desactualizado")
+                    .register(registry);
+            FunctionCounter.builder("turnos.calendario.desalojos", calendarioOcupacion, CalendarioOcupacion::getDesalojos)
+                    .description("Calendarios desalojados por superar el máximo de empleados")
+                    .register(registry);
+            Gauge.builder("turnos.calendario.empleados", calendarioOcupacion, CalendarioOcupacion::getEmpleados)
+                    .description("Empleados con el calendario en memoria")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder metricasRegistroEmpleados(RegistroEmpleados registroEmpleados) {
+        return registry -> {
+            FunctionCounter.builder("turnos.empleados.cache.consultas", registroEmpleados, r -> r.getEstadisticas().hitCount())
+                    .description("Consultas a la caché de empleados")
+                    .tag("resultado", "acierto")
+                    .register(registry);
+            FunctionCounter.builder("turnos.empleados.cache.consultas", registroEmpleados, r -> r.getEstadisticas().missCount())
+                    .description("Consultas a la caché de empleados")
+                    .tag("resultado", "fallo")
+                    .register(registry);
+            FunctionCounter.builder("turnos.empleados.cache.desalojos", registroEmpleados, r -> r.getEstadisticas().evictionCount())
+                    .description("Empleados desalojados de la caché por tamaño o vencimiento")
+                    .register(registry);
+            Gauge.builder("turnos.empleados.cache.aciertos", registroEmpleados, r -> r.getEstadisticas().hitRate())
+                    .description("Proporción de consultas a la caché de empleados resueltas sin ir a la base")
+                    .register(registry);
+            Gauge.builder("turnos.empleados.cache.empleados", registroEmpleados, RegistroEmpleados::getEmpleados)
+                    .description("Empleados en la caché")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder metricasIndiceIdentidad(IndiceIdentidad indiceIdentidad) {
+        return registry -> {
+            FunctionCounter.builder("turnos.identidad.consultas", indiceIdentidad, IndiceIdentidad::getDescartes)
+                    .description("Consultas de documento o email: descartadas por el filtro de Bloom, resueltas en el índice o en la base mientras se carga")
+                    .tag("resultado", "descartada")
+                    .register(registry);
+            FunctionCounter.builder("turnos.identidad.consultas", indiceIdentidad, IndiceIdentidad::getConsultasIndice)
+                    .description("Consultas de documento o email: descartadas por el filtro de Bloom, resueltas en el índice o en la base mientras se carga")
+                    .tag("resultado", "indice")
+                    .register(registry);
+            FunctionCounter.builder("turnos.identidad.consultas", indiceIdentidad, IndiceIdentidad::getConsultasBase)
+                    .description("Consultas de documento o email: descartadas por el filtro de Bloom, resueltas en el índice o en la base mientras se carga")
+                    .tag("resultado", "base")
+                    .register(registry);
+            Gauge.builder("turnos.identidad.empleados", indiceIdentidad, IndiceIdentidad::getEmpleados)
+                    .description("Empleados en el índice de identidad")
+                    .register(registry);
+        };
+    }
+}
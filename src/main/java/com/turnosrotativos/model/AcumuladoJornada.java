@@ -0,0 +1,136 @@
+package com.turnosrotativos.model;
+
+import jakarta.persistence.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+// Totales de jornadas de un empleado por semana (desde el lunes) o por mes,
+// mantenidos en cada alta para no recalcularlos desde las jornadas
+@Entity
+@Table(name = "acumulado_jornada",
+        uniqueConstraints = @UniqueConstraint(name = "uk_acumulado_jornada_periodo",
+                columnNames = {"empleado_id", "tipo_periodo", "inicio_periodo"}))
+public class AcumuladoJornada {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "acumulado_jornada_seq")
+    @SequenceGenerator(name = "acumulado_jornada_seq", sequenceName = "acumulado_jornada_seq", allocationSize = 50)
+    private Integer id;
+
+    @Column(name = "empleado_id", nullable = false)
+    private Integer empleadoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo_periodo", nullable = false, length = 10)
+    private TipoPeriodo tipoPeriodo;
+
+    @Column(name = "inicio_periodo", nullable = false)
+    private LocalDate inicioPeriodo;
+
+    @Column(nullable = false)
+    private int horas;
+
+    @Column(nullable = false)
+    private int diasLibres;
+
+    @Column(nullable = false)
+    private int turnosExtra;
+
+    @Column(nullable = false)
+    private int turnosNormales;
+
+    public AcumuladoJornada(){}
+
+    public AcumuladoJornada(Integer empleadoId, TipoPeriodo tipoPeriodo, LocalDate inicioPeriodo) {
+        this.empleadoId = empleadoId;
+        this.tipoPeriodo = tipoPeriodo;
+        this.inicioPeriodo = inicioPeriodo;
+    }
+
+    // Copia sin id ni relación con el contexto de persistencia, para sumarle jornadas sin que se guarden
+    public AcumuladoJornada copiar() {
+        AcumuladoJornada copia = new AcumuladoJornada(empleadoId, tipoPeriodo, inicioPeriodo);
+        copia.horas = horas;
+        copia.diasLibres = diasLibres;
+        copia.turnosExtra = turnosExtra;
+        copia.turnosNormales = turnosNormales;
+        return copia;
+    }
+
+    // Acumulado armado con totales ya calculados, sin relación con el contexto de persistencia
+    public static AcumuladoJornada conTotales(Integer empleadoId, TipoPeriodo tipoPeriodo, LocalDate inicioPeriodo,
+                                              int horas, int diasLibres, int turnosExtra, int turnosNormales) {
+        AcumuladoJornada acumulado = new AcumuladoJornada(empleadoId, tipoPeriodo, inicioPeriodo);
+        acumulado.horas = horas;
+        acumulado.diasLibres = diasLibres;
+        acumulado.turnosExtra = turnosExtra;
+        acumulado.turnosNormales = turnosNormales;
+        return acumulado;
+    }
+
+    public static LocalDate inicioSemana(LocalDate fecha) {
+        return fecha.with(DayOfWeek.MONDAY);
+    }
+
+    public static LocalDate inicioMes(LocalDate fecha) {
+        return fecha.withDayOfMonth(1);
+    }
+
+    public static LocalDate inicioPeriodo(TipoPeriodo tipoPeriodo, LocalDate fecha) {
+        return tipoPeriodo == TipoPeriodo.SEMANA ? inicioSemana(fecha) : inicioMes(fecha);
+    }
+
+    public void registrar(JornadaLaboral jornada) {
+        horas += jornada.getHorasTrabajadas() != null ? jornada.getHorasTrabajadas() : 0;
+        switch (jornada.getConceptoLaboral().getTipo()) {
+            case DIA_LIBRE -> diasLibres++;
+            case TURNO_EXTRA -> turnosExtra++;
+            case TURNO_NORMAL -> turnosNormales++;
+        }
+    }
+
+    public int getCantidad(TipoConcepto tipo) {
+        return switch (tipo) {
+            case DIA_LIBRE -> diasLibres;
+            case TURNO_EXTRA -> turnosExtra;
+            case TURNO_NORMAL -> turnosNormales;
+        };
+    }
+
+    // Cada jornada suma uno en el contador de su tipo
+    public int getJornadas() {
+        return diasLibres + turnosExtra + turnosNormales;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Integer getEmpleadoId() {
+        return empleadoId;
+    }
+
+    public TipoPeriodo getTipoPeriodo() {
+        return tipoPeriodo;
+    }
+
+    public LocalDate getInicioPeriodo() {
+        return inicioPeriodo;
+    }
+
+    public int getHoras() {
+        return horas;
+    }
+
+    public int getDiasLibres() {
+        return diasLibres;
+    }
+
+    public int getTurnosExtra() {
+        return turnosExtra;
+    }
+
+    public int getTurnosNormales() {
+        return turnosNormales;
+    }
+}
@@ -18,12 +18,38 @@ public class ConceptoLaboral {
     @NotBlank
     private String nombre;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoConcepto tipo;
+
+    // Topes del concepto; null significa sin tope
+    @Column(name = "max_empleados_dia")
+    private Integer maxEmpleadosDia;
+
+    @Column(name = "max_semanal")
+    private Integer maxSemanal;
+
+    @Column(name = "max_mensual")
+    private Integer maxMensual;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
     public ConceptoLaboral(){}
 
     public Integer getId() {
         return id;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public void setId(Integer id) {
         this.id = id;
     }
@@ -59,5 +85,40 @@ public class ConceptoLaboral {
     public void setNombre(String nombre) {
         this.nombre = nombre;
     }
-}
 
+    public TipoConcepto getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoConcepto tipo) {
+        this.tipo = tipo;
+    }
+
+    public Integer getMaxEmpleadosDia() {
+        return maxEmpleadosDia;
+    }
+
+    public void setMaxEmpleadosDia(Integer maxEmpleadosDia) {
+        this.maxEmpleadosDia = maxEmpleadosDia;
+    }
+
+    public Integer getMaxSemanal() {
+        return maxSemanal;
+    }
+
+    public void setMaxSemanal(Integer maxSemanal) {
+        this.maxSemanal = maxSemanal;
+    }
+
+    public Integer getMaxMensual() {
+        return maxMensual;
+    }
+
+    public void setMaxMensual(Integer maxMensual) {
+        this.maxMensual = maxMensual;
+    }
+
+    public boolean esLaborable() {
+        return Boolean.TRUE.equals(laborable);
+    }
+}
@@ -8,8 +8,10 @@ import java.time.LocalDateTime;
 @Table(name = "empleados")
 public class Empleado {
 
+    // Secuencia con pooled optimizer para que Hibernate pueda agrupar los inserts en batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "empleados_seq")
+    @SequenceGenerator(name = "empleados_seq", sequenceName = "empleados_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "nro_documento", nullable = false, unique = true)
@@ -33,6 +35,11 @@ public class Empleado {
     @Column(name = "fecha_creacion", nullable = false, updatable = false)
     private LocalDateTime fechaCreacion;
 
+    // Bloqueo optimista: cada actualización la incrementa, y también se usa como ETag del empleado
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
     public Empleado(){}
 
     public Integer getId() {
@@ -95,6 +102,18 @@ public class Empleado {
         return fechaCreacion;
     }
 
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     // Se establece la fecha de creación antes de persistir el empleado
     @PrePersist
     protected void onCreate() {
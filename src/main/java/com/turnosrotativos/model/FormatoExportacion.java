@@ -0,0 +1,6 @@
+package com.turnosrotativos.model;
+
+public enum FormatoExportacion {
+    CSV,
+    NDJSON
+}
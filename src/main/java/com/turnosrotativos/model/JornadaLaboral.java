@@ -5,16 +5,22 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
+@Table(name = "jornada_laboral",
+        uniqueConstraints = @UniqueConstraint(name = "uk_jornada_laboral_empleado_fecha_concepto",
+                columnNames = {"empleado_id", "fecha", "concepto_laboral_id"}),
+        indexes = @Index(name = "ix_jornada_laboral_fecha_concepto", columnList = "fecha, concepto_laboral_id"))
 public class JornadaLaboral {
+    // Secuencia con pooled optimizer para que Hibernate pueda agrupar los inserts en batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jornada_laboral_seq")
+    @SequenceGenerator(name = "jornada_laboral_seq", sequenceName = "jornada_laboral_seq", allocationSize = 50)
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "empleado_id", nullable = false)
     private Empleado empleado;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "concepto_laboral_id", nullable = false)
     private ConceptoLaboral conceptoLaboral;
 
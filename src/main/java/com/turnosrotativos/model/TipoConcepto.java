@@ -0,0 +1,9 @@
+package com.turnosrotativos.model;
+
+// Tipo estable de un concepto laboral. Decide qué contador de los acumulados suma la jornada;
+// los topes de cada concepto están en sus propias columnas
+public enum TipoConcepto {
+    TURNO_NORMAL,
+    TURNO_EXTRA,
+    DIA_LIBRE
+}
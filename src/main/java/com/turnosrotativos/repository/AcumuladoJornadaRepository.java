@@ -0,0 +1,25 @@
+package com.turnosrotativos.repository;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface AcumuladoJornadaRepository extends JpaRepository<AcumuladoJornada, Integer>, AcumuladoJornadaRepositoryCustom {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AcumuladoJornada> findByEmpleadoIdAndInicioPeriodoIn(Integer empleadoId, Collection<LocalDate> iniciosPeriodo);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AcumuladoJornada> findByEmpleadoIdInAndInicioPeriodoBetween(Collection<Integer> empleadoIds, LocalDate desde, LocalDate hasta);
+
+    // Sin bloqueo, para quien solo necesita una copia de los totales y no va a guardar en la misma transacción
+    @Query("SELECT a FROM AcumuladoJornada a WHERE a.empleadoId IN :empleadoIds AND a.inicioPeriodo BETWEEN :desde AND :hasta")
+    List<AcumuladoJornada> buscarTotales(@Param("empleadoIds") Collection<Integer> empleadoIds,
+                                         @Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta);
+}
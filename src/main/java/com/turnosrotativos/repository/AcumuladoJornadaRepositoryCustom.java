@@ -0,0 +1,10 @@
+package com.turnosrotativos.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AcumuladoJornadaRepositoryCustom {
+
+    // Totales del día, la semana y el mes de la fecha para todos los empleados ingresados hasta esa fecha
+    List<DisponibilidadFila> buscarDisponibilidad(LocalDate fecha, Integer conceptoId);
+}
@@ -0,0 +1,55 @@
+package com.turnosrotativos.repository;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AcumuladoJornadaRepositoryImpl implements AcumuladoJornadaRepositoryCustom {
+
+    // Una sola consulta para todos los empleados. Semana y mes salen de los acumulados y el día de las jornadas
+    // de la fecha, las dos búsquedas por empleado sobre índices únicos (uk_acumulado_jornada_periodo y
+    // uk_jornada_laboral_empleado_fecha_concepto). La cantidad de empleados con el concepto en el día no
+    // depende del empleado y se calcula una sola vez
+    private static final String CONSULTA_DISPONIBILIDAD = "SELECT e.id, e.nro_documento, e.nombre, e.apellido, " +
+            "(SELECT COALESCE(SUM(j.horas_trabajadas), 0) FROM jornada_laboral j " +
+            "WHERE j.empleado_id = e.id AND j.fecha = :fecha), " +
+            "(SELECT COUNT(*) FROM jornada_laboral j WHERE j.empleado_id = e.id AND j.fecha = :fecha " +
+            "AND j.concepto_laboral_id = :conceptoId), " +
+            "COALESCE(s.horas, 0), COALESCE(s.dias_libres, 0), COALESCE(s.turnos_extra, 0), COALESCE(s.turnos_normales, 0), " +
+            "COALESCE(m.horas, 0), COALESCE(m.dias_libres, 0), COALESCE(m.turnos_extra, 0), COALESCE(m.turnos_normales, 0), " +
+            "(SELECT COUNT(*) FROM jornada_laboral c WHERE c.fecha = :fecha AND c.concepto_laboral_id = :conceptoId) " +
+            "FROM empleados e " +
+            "LEFT JOIN acumulado_jornada s ON s.empleado_id = e.id AND s.tipo_periodo = 'SEMANA' AND s.inicio_periodo = :inicioSemana " +
+            "LEFT JOIN acumulado_jornada m ON m.empleado_id = e.id AND m.tipo_periodo = 'MES' AND m.inicio_periodo = :inicioMes " +
+            "WHERE e.fecha_ingreso <= :fecha";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Las filas se arman a mano: una proyección por interfaz pasa cada columna por el ConversionService
+    // y con miles de empleados eso cuesta más que la consulta
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<DisponibilidadFila> buscarDisponibilidad(LocalDate fecha, Integer conceptoId) {
+        List<Object[]> filas = entityManager.createNativeQuery(CONSULTA_DISPONIBILIDAD)
+                .setParameter("fecha", fecha)
+                .setParameter("inicioSemana", AcumuladoJornada.inicioSemana(fecha))
+                .setParameter("inicioMes", AcumuladoJornada.inicioMes(fecha))
+                .setParameter("conceptoId", conceptoId)
+                .getResultList();
+        List<DisponibilidadFila> resultado = new ArrayList<>(filas.size());
+        for (Object[] fila : filas) {
+            resultado.add(new DisponibilidadFila((Integer) fila[0], (Integer) fila[1], (String) fila[2], (String) fila[3],
+                    entero(fila[4]), entero(fila[5]), entero(fila[6]), entero(fila[7]), entero(fila[8]), entero(fila[9]),
+                    entero(fila[10]), entero(fila[11]), entero(fila[12]), entero(fila[13]), entero(fila[14])));
+        }
+        return resultado;
+    }
+
+    private static int entero(Object valor) {
+        return ((Number) valor).intValue();
+    }
+}
@@ -0,0 +1,9 @@
+package com.turnosrotativos.repository;
+
+import java.time.LocalDate;
+
+public interface ConteoConceptoDia {
+    LocalDate getFecha();
+    Integer getConceptoId();
+    Long getCantidad();
+}
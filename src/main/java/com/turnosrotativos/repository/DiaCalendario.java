@@ -0,0 +1,7 @@
+package com.turnosrotativos.repository;
+
+import java.time.LocalDate;
+
+// Lo que el calendario de ocupación guarda de cada jornada, sin cargar la entidad ni sus asociaciones
+public record DiaCalendario(Integer empleadoId, LocalDate fecha, Integer conceptoId, Integer horasTrabajadas) {
+}
@@ -0,0 +1,9 @@
+package com.turnosrotativos.repository;
+
+// Fila de la consulta de disponibilidad: totales de un empleado en el día, la semana y el mes de una fecha
+public record DisponibilidadFila(Integer id, Integer nroDocumento, String nombre, String apellido,
+                                 int horasDia, int jornadasConceptoDia,
+                                 int horasSemana, int diasLibresSemana, int turnosExtraSemana, int turnosNormalesSemana,
+                                 int horasMes, int diasLibresMes, int turnosExtraMes, int turnosNormalesMes,
+                                 int empleadosConceptoDia) {
+}
@@ -1,12 +1,30 @@
 package com.turnosrotativos.repository;
 
 import com.turnosrotativos.model.Empleado;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface EmpleadoRepository extends JpaRepository<Empleado, Long> {
+public interface EmpleadoRepository extends JpaRepository<Empleado, Long>, EmpleadoRepositoryCustom {
     List<Empleado> findAll();
     boolean existsByNroDocumento(Integer nroDocumento);
+    boolean existsByEmail(String email);
+    List<Empleado> findByNroDocumentoInOrEmailIn(Collection<Integer> nroDocumentos, Collection<String> emails);
+
+    // Solo la versión, para responder un GET condicional sin cargar la entidad
+    @Query("SELECT e.version FROM Empleado e WHERE e.id = :id")
+    Optional<Integer> buscarVersion(@Param("id") Integer id);
+
+    @Query("SELECT e.id FROM Empleado e WHERE e.nroDocumento = :nroDocumento")
+    Optional<Integer> buscarIdPorDocumento(@Param("nroDocumento") Integer nroDocumento);
+
+    // Página de identidades ordenada por id, desde el último id leído, para cargar el índice de identidad
+    @Query("SELECT new com.turnosrotativos.repository.IdentidadEmpleado(e.id, e.nroDocumento, e.email) " +
+            "FROM Empleado e WHERE e.id > :desde ORDER BY e.id")
+    List<IdentidadEmpleado> buscarIdentidades(@Param("desde") Integer desde, Limit limite);
 }
 
@@ -0,0 +1,11 @@
+package com.turnosrotativos.repository;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import org.springframework.data.domain.Sort;
+import java.util.List;
+
+public interface EmpleadoRepositoryCustom {
+
+    // Página de empleados que cumplen el filtro, trayendo solo las columnas pedidas en campos
+    List<EmpleadoDTO> buscarPagina(FiltroEmpleados filtro, List<String> campos, Sort orden, int desde, int limite);
+}
@@ -0,0 +1,94 @@
+package com.turnosrotativos.repository;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.model.Empleado;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class EmpleadoRepositoryImpl implements EmpleadoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Selecciona solo las columnas pedidas como tupla, así las vistas de listado no traen las fechas que no
+    // muestran y no se cargan entidades en el contexto de persistencia
+    @Override
+    public List<EmpleadoDTO> buscarPagina(FiltroEmpleados filtro, List<String> campos, Sort orden, int desde, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Empleado> empleado = query.from(Empleado.class);
+
+        List<Predicate> condiciones = new ArrayList<>();
+        if (filtro.apellido() != null) {
+            // Prefijo sin comodines al principio, para que lo resuelva ix_empleados_apellido
+            condiciones.add(cb.like(empleado.get("apellido"), escaparLike(filtro.apellido()) + "%", '\\'));
+        }
+        if (filtro.nroDocumento() != null) {
+            condiciones.add(cb.equal(empleado.get("nroDocumento"), filtro.nroDocumento()));
+        }
+        if (filtro.fechaIngresoDesde() != null) {
+            condiciones.add(cb.greaterThanOrEqualTo(empleado.get("fechaIngreso"), filtro.fechaIngresoDesde()));
+        }
+        if (filtro.fechaIngresoHasta() != null) {
+            condiciones.add(cb.lessThanOrEqualTo(empleado.get("fechaIngreso"), filtro.fechaIngresoHasta()));
+        }
+
+        List<Selection<?>> columnas = new ArrayList<>();
+        for (String campo : campos) {
+            columnas.add(empleado.get(campo).alias(campo));
+        }
+        List<Order> orderBy = new ArrayList<>();
+        for (Sort.Order criterio : orden) {
+            orderBy.add(criterio.isAscending() ? cb.asc(empleado.get(criterio.getProperty()))
+                    : cb.desc(empleado.get(criterio.getProperty())));
+        }
+        query.multiselect(columnas)
+                .where(condiciones.toArray(new Predicate[0]))
+                .orderBy(orderBy);
+
+        List<Tuple> filas = entityManager.createQuery(query)
+                .setFirstResult(desde)
+                .setMaxResults(limite)
+                .getResultList();
+        List<EmpleadoDTO> empleados = new ArrayList<>(filas.size());
+        for (Tuple fila : filas) {
+            empleados.add(aDTO(fila, campos));
+        }
+        return empleados;
+    }
+
+    private EmpleadoDTO aDTO(Tuple fila, List<String> campos) {
+        EmpleadoDTO dto = new EmpleadoDTO();
+        for (String campo : campos) {
+            Object valor = fila.get(campo);
+            switch (campo) {
+                case "id" -> dto.setId((Integer) valor);
+                case "nombre" -> dto.setNombre((String) valor);
+                case "apellido" -> dto.setApellido((String) valor);
+                case "email" -> dto.setEmail((String) valor);
+                case "nroDocumento" -> dto.setNroDocumento((Integer) valor);
+                case "fechaNacimiento" -> dto.setFechaNacimiento((LocalDate) valor);
+                case "fechaIngreso" -> dto.setFechaIngreso((LocalDate) valor);
+                case "fechaCreacion" -> dto.setFechaCreacion((LocalDateTime) valor);
+                default -> throw new IllegalArgumentException("Campo de empleado desconocido: " + campo);
+            }
+        }
+        return dto;
+    }
+
+    private static String escaparLike(String valor) {
+        return valor.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,7 @@
+package com.turnosrotativos.repository;
+
+import java.time.LocalDate;
+
+public record FiltroEmpleados(String apellido, Integer nroDocumento, LocalDate fechaIngresoDesde,
+                              LocalDate fechaIngresoHasta) {
+}
@@ -0,0 +1,6 @@
+package com.turnosrotativos.repository;
+
+import java.time.LocalDate;
+
+public record FiltroJornadas(Integer nroDocumento, LocalDate fechaDesde, LocalDate fechaHasta) {
+}
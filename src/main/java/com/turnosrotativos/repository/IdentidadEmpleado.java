@@ -0,0 +1,5 @@
+package com.turnosrotativos.repository;
+
+// Lo que el índice de identidad guarda de cada empleado: los dos campos únicos y el id
+public record IdentidadEmpleado(Integer id, Integer nroDocumento, String email) {
+}
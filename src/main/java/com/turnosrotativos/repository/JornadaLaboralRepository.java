@@ -1,25 +1,66 @@
 package com.turnosrotativos.repository;
 
 import com.turnosrotativos.model.JornadaLaboral;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface JornadaLaboralRepository extends JpaRepository<JornadaLaboral, Integer> {
-    boolean existsByEmpleadoIdAndFechaAndConceptoLaboralId(Integer empleadoId, LocalDate fecha, Integer conceptoId);
+public interface JornadaLaboralRepository extends JpaRepository<JornadaLaboral, Integer>, JornadaLaboralRepositoryCustom {
     int countByEmpleadoId(Integer empleadoId);
-    Integer countByFechaAndConceptoLaboralId(LocalDate fecha, Integer idConcepto);
-    List<JornadaLaboral> findByFechaBetween(LocalDate fechaDesde, LocalDate fechaHasta);
-    List<JornadaLaboral> findAll();
-    List<JornadaLaboral> findByEmpleadoNroDocumento(Integer nroDocumento);
-    List<JornadaLaboral> findByFechaLessThanEqual(LocalDate fechaHasta);
-    List<JornadaLaboral> findByFechaGreaterThanEqual(LocalDate fechaDesde);
-    List<JornadaLaboral> findByEmpleadoNroDocumentoAndFechaLessThanEqual(Integer nroDocumento, LocalDate fechaHasta);
-    List<JornadaLaboral> findByEmpleadoNroDocumentoAndFechaGreaterThanEqual(Integer nroDocumento, LocalDate fechaDesde);
-    List<JornadaLaboral> findByEmpleadoNroDocumentoAndFechaBetween(Integer nroDocumento, LocalDate fechaDesde, LocalDate fechaHasta);
-    List<JornadaLaboral> findByEmpleadoIdAndFechaBetween(Integer empleadoId, LocalDate startDate, LocalDate endDate);
-}
+    List<JornadaLaboral> findByEmpleadoIdInAndFechaBetween(Collection<Integer> empleadoIds, LocalDate fechaDesde, LocalDate fechaHasta);
+
+    @Query("SELECT j.fecha AS fecha, j.conceptoLaboral.id AS conceptoId, COUNT(j) AS cantidad FROM JornadaLaboral j " +
+            "WHERE j.fecha BETWEEN :fechaDesde AND :fechaHasta GROUP BY j.fecha, j.conceptoLaboral.id")
+    List<ConteoConceptoDia> contarPorFechaYConcepto(@Param("fechaDesde") LocalDate fechaDesde,
+                                                    @Param("fechaHasta") LocalDate fechaHasta);
+
+    // Cantidad de jornadas del concepto en la fecha, contadas sobre ix_jornada_laboral_fecha_concepto
+    int countByFechaAndConceptoLaboralId(LocalDate fecha, Integer conceptoId);
+
+    @Query("SELECT new com.turnosrotativos.repository.DiaCalendario(j.empleado.id, j.fecha, j.conceptoLaboral.id, j.horasTrabajadas) " +
+            "FROM JornadaLaboral j WHERE j.empleado.id IN :empleadoIds AND j.fecha BETWEEN :fechaDesde AND :fechaHasta")
+    List<DiaCalendario> buscarCalendarios(@Param("empleadoIds") Collection<Integer> empleadoIds,
+                                          @Param("fechaDesde") LocalDate fechaDesde,
+                                          @Param("fechaHasta") LocalDate fechaHasta);
 
+    // Empleados con jornadas en el rango, los de jornadas más recientes primero, para precargar el calendario
+    @Query("SELECT j.empleado.id FROM JornadaLaboral j WHERE j.fecha BETWEEN :fechaDesde AND :fechaHasta " +
+            "GROUP BY j.empleado.id ORDER BY MAX(j.fecha) DESC")
+    List<Integer> buscarEmpleadosPorActividad(@Param("fechaDesde") LocalDate fechaDesde,
+                                              @Param("fechaHasta") LocalDate fechaHasta, Limit limite);
+
+    // Resúmenes agregados en la base. El período se agrupa por su fecha de inicio: el lunes de la semana
+    // ISO o el día 1 del mes, igual que en AcumuladoJornada
+    @Query(value = "SELECT e.nro_documento AS nroDocumento, e.nombre AS nombre, e.apellido AS apellido, " +
+            "DATEADD(DAY, 1 - ISO_DAY_OF_WEEK(j.fecha), j.fecha) AS inicioPeriodo, c.nombre AS concepto, " +
+            "COUNT(*) AS cantidad, COALESCE(SUM(j.horas_trabajadas), 0) AS horas " +
+            "FROM jornada_laboral j JOIN empleados e ON e.id = j.empleado_id " +
+            "JOIN concepto_laboral c ON c.id = j.concepto_laboral_id " +
+            "WHERE j.fecha BETWEEN :fechaDesde AND :fechaHasta " +
+            "AND (CAST(:nroDocumento AS INTEGER) IS NULL OR e.nro_documento = :nroDocumento) " +
+            "GROUP BY e.nro_documento, e.nombre, e.apellido, DATEADD(DAY, 1 - ISO_DAY_OF_WEEK(j.fecha), j.fecha), c.id, c.nombre " +
+            "ORDER BY e.nro_documento, inicioPeriodo, c.id", nativeQuery = true)
+    List<ResumenJornadaFila> resumirPorSemana(@Param("fechaDesde") LocalDate fechaDesde,
+                                              @Param("fechaHasta") LocalDate fechaHasta,
+                                              @Param("nroDocumento") Integer nroDocumento);
+
+    @Query(value = "SELECT e.nro_documento AS nroDocumento, e.nombre AS nombre, e.apellido AS apellido, " +
+            "DATEADD(DAY, 1 - DAY_OF_MONTH(j.fecha), j.fecha) AS inicioPeriodo, c.nombre AS concepto, " +
+            "COUNT(*) AS cantidad, COALESCE(SUM(j.horas_trabajadas), 0) AS horas " +
+            "FROM jornada_laboral j JOIN empleados e ON e.id = j.empleado_id " +
+            "JOIN concepto_laboral c ON c.id = j.concepto_laboral_id " +
+            "WHERE j.fecha BETWEEN :fechaDesde AND :fechaHasta " +
+            "AND (CAST(:nroDocumento AS INTEGER) IS NULL OR e.nro_documento = :nroDocumento) " +
+            "GROUP BY e.nro_documento, e.nombre, e.apellido, DATEADD(DAY, 1 - DAY_OF_MONTH(j.fecha), j.fecha), c.id, c.nombre " +
+            "ORDER BY e.nro_documento, inicioPeriodo, c.id", nativeQuery = true)
+    List<ResumenJornadaFila> resumirPorMes(@Param("fechaDesde") LocalDate fechaDesde,
+                                           @Param("fechaHasta") LocalDate fechaHasta,
+                                           @Param("nroDocumento") Integer nroDocumento);
+}
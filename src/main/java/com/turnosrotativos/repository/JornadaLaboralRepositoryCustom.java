@@ -0,0 +1,14 @@
+package com.turnosrotativos.repository;
+
+import com.turnosrotativos.dto.JornadaResponseDTO;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface JornadaLaboralRepositoryCustom {
+
+    // Paginación por keyset sobre (fecha, id): devuelve las jornadas posteriores al cursor, si lo hay
+    List<JornadaResponseDTO> buscarPagina(FiltroJornadas filtro, LocalDate cursorFecha, Integer cursorId, int limite);
+
+    Stream<JornadaResponseDTO> streamJornadas(FiltroJornadas filtro);
+}
@@ -0,0 +1,74 @@
+package com.turnosrotativos.repository;
+
+import com.turnosrotativos.dto.JornadaResponseDTO;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class JornadaLaboralRepositoryImpl implements JornadaLaboralRepositoryCustom {
+
+    private static final int TAMANIO_FETCH_STREAM = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<JornadaResponseDTO> buscarPagina(FiltroJornadas filtro, LocalDate cursorFecha, Integer cursorId, int limite) {
+        return crearConsulta(filtro, cursorFecha, cursorId)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<JornadaResponseDTO> streamJornadas(FiltroJornadas filtro) {
+        return crearConsulta(filtro, null, null)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, TAMANIO_FETCH_STREAM)
+                .getResultStream();
+    }
+
+    // Proyecta directo al DTO de respuesta: una sola consulta con los joins, sin entidades en el contexto
+    // de persistencia ni selects adicionales por empleado o concepto
+    private TypedQuery<JornadaResponseDTO> crearConsulta(FiltroJornadas filtro, LocalDate cursorFecha, Integer cursorId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JornadaResponseDTO> query = cb.createQuery(JornadaResponseDTO.class);
+        Root<JornadaLaboral> jornada = query.from(JornadaLaboral.class);
+        Join<JornadaLaboral, Empleado> empleado = jornada.join("empleado", JoinType.INNER);
+        Join<JornadaLaboral, ConceptoLaboral> concepto = jornada.join("conceptoLaboral", JoinType.INNER);
+
+        List<Predicate> condiciones = new ArrayList<>();
+        if (filtro.nroDocumento() != null) {
+            condiciones.add(cb.equal(empleado.get("nroDocumento"), filtro.nroDocumento()));
+        }
+        if (filtro.fechaDesde() != null) {
+            condiciones.add(cb.greaterThanOrEqualTo(jornada.get("fecha"), filtro.fechaDesde()));
+        }
+        if (filtro.fechaHasta() != null) {
+            condiciones.add(cb.lessThanOrEqualTo(jornada.get("fecha"), filtro.fechaHasta()));
+        }
+        if (cursorFecha != null && cursorId != null) {
+            condiciones.add(cb.or(
+                    cb.greaterThan(jornada.get("fecha"), cursorFecha),
+                    cb.and(cb.equal(jornada.get("fecha"), cursorFecha), cb.greaterThan(jornada.get("id"), cursorId))));
+        }
+        query.select(cb.construct(JornadaResponseDTO.class,
+                        jornada.get("id"), empleado.get("nroDocumento"), empleado.get("nombre"), empleado.get("apellido"),
+                        jornada.get("fecha"), concepto.get("nombre"), concepto.get("laborable"), jornada.get("horasTrabajadas")))
+                .where(condiciones.toArray(new Predicate[0]))
+                .orderBy(cb.asc(jornada.get("fecha")), cb.asc(jornada.get("id")));
+        return entityManager.createQuery(query);
+    }
+}
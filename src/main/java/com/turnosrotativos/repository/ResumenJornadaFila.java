@@ -0,0 +1,14 @@
+package com.turnosrotativos.repository;
+
+import java.time.LocalDate;
+
+// Fila de las consultas de resumen: totales de un empleado en un período para un concepto
+public interface ResumenJornadaFila {
+    Integer getNroDocumento();
+    String getNombre();
+    String getApellido();
+    LocalDate getInicioPeriodo();
+    String getConcepto();
+    Long getCantidad();
+    Long getHoras();
+}
@@ -0,0 +1,48 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.repository.AcumuladoJornadaRepository;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class AcumuladoJornadaService {
+
+    private final AcumuladoJornadaRepository acumuladoJornadaRepository;
+
+    public AcumuladoJornadaService(AcumuladoJornadaRepository acumuladoJornadaRepository) {
+        this.acumuladoJornadaRepository = acumuladoJornadaRepository;
+    }
+
+    // Lee con bloqueo de fila los acumulados de la semana y el mes de la fecha; si todavía no
+    // existen se devuelven vacíos y se crean al registrar la jornada
+    public Acumulados obtenerParaValidacion(Integer empleadoId, LocalDate fecha) {
+        LocalDate inicioSemana = AcumuladoJornada.inicioSemana(fecha);
+        LocalDate inicioMes = AcumuladoJornada.inicioMes(fecha);
+        List<AcumuladoJornada> existentes = acumuladoJornadaRepository
+                .findByEmpleadoIdAndInicioPeriodoIn(empleadoId, List.of(inicioSemana, inicioMes));
+        return new Acumulados(
+                buscar(existentes, empleadoId, TipoPeriodo.SEMANA, inicioSemana),
+                buscar(existentes, empleadoId, TipoPeriodo.MES, inicioMes));
+    }
+
+    public void registrar(Acumulados acumulados, JornadaLaboral jornada) {
+        acumulados.semana().registrar(jornada);
+        acumulados.mes().registrar(jornada);
+        acumuladoJornadaRepository.saveAll(List.of(acumulados.semana(), acumulados.mes()));
+    }
+
+    private AcumuladoJornada buscar(List<AcumuladoJornada> existentes, Integer empleadoId,
+                                    TipoPeriodo tipoPeriodo, LocalDate inicioPeriodo) {
+        return existentes.stream()
+                .filter(a -> a.getTipoPeriodo() == tipoPeriodo && a.getInicioPeriodo().equals(inicioPeriodo))
+                .findFirst()
+                .orElseGet(() -> new AcumuladoJornada(empleadoId, tipoPeriodo, inicioPeriodo));
+    }
+
+    public record Acumulados(AcumuladoJornada semana, AcumuladoJornada mes) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.exception.ConflictException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Locks por franjas para que la validación y el alta de jornadas de un mismo empleado, o de un mismo
+// concepto en un mismo día, no se intercalen. Se liberan al terminar la transacción, después del commit,
+// así quien entra después ya ve lo que insertó el anterior
+@Component
+public class BloqueoJornadas {
+
+    private static final int CANTIDAD_FRANJAS = 256;
+    private static final long ESPERA_MAXIMA_SEGUNDOS = 10;
+
+    private final ReentrantLock[] franjasEmpleado = crearFranjas();
+    private final ReentrantLock[] franjasConceptoDia = crearFranjas();
+
+    public void bloquear(Integer empleadoId, LocalDate fecha, Integer conceptoId) {
+        bloquear(List.of(empleadoId), List.of(new ConceptoDia(fecha, conceptoId)));
+    }
+
+    // Siempre primero las franjas de empleado y después las de concepto por día, cada grupo en orden
+    // ascendente, así dos transacciones nunca se esperan mutuamente
+    public void bloquear(Collection<Integer> empleadoIds, Collection<ConceptoDia> conceptosDia) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("El bloqueo de jornadas requiere una transacción activa.");
+        }
+        TreeSet<Integer> indicesEmpleado = new TreeSet<>();
+        empleadoIds.forEach(id -> indicesEmpleado.add(indice(id.hashCode())));
+        TreeSet<Integer> indicesConceptoDia = new TreeSet<>();
+        conceptosDia.forEach(conceptoDia -> indicesConceptoDia.add(indice(conceptoDia.hashCode())));
+
+        List<ReentrantLock> tomados = new ArrayList<>();
+        try {
+            for (Integer indice : indicesEmpleado) {
+                tomar(franjasEmpleado[indice], tomados);
+            }
+            for (Integer indice : indicesConceptoDia) {
+                tomar(franjasConceptoDia[indice], tomados);
+            }
+        } catch (RuntimeException e) {
+            liberar(tomados);
+            throw e;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                liberar(tomados);
+            }
+        });
+    }
+
+    private void tomar(ReentrantLock lock, List<ReentrantLock> tomados) {
+        try {
+            if (!lock.tryLock(ESPERA_MAXIMA_SEGUNDOS, TimeUnit.SECONDS)) {
+                throw new ConflictException("Hay otra carga en curso para el mismo empleado o concepto, intente nuevamente.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Se interrumpió la espera por otra carga en curso, intente nuevamente.");
+        }
+        tomados.add(lock);
+    }
+
+    private void liberar(List<ReentrantLock> tomados) {
+        for (int i = tomados.size() - 1; i >= 0; i--) {
+            tomados.get(i).unlock();
+        }
+    }
+
+    private int indice(int hash) {
+        return Math.floorMod(hash ^ (hash >>> 16), CANTIDAD_FRANJAS);
+    }
+
+    private static ReentrantLock[] crearFranjas() {
+        ReentrantLock[] franjas = new ReentrantLock[CANTIDAD_FRANJAS];
+        for (int i = 0; i < CANTIDAD_FRANJAS; i++) {
+            franjas[i] = new ReentrantLock();
+        }
+        return franjas;
+    }
+
+    public record ConceptoDia(LocalDate fecha, Integer conceptoId) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.repository.DiaCalendario;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Jornadas de un empleado por semana, indexadas por el lunes en días desde la época: las horas de cada día
+// en un byte y, por cada concepto, una máscara con los días en que tiene una jornada de ese concepto. Tiene
+// solo las semanas que se leyeron de la base, así que ocupa lo mismo sin importar qué tan lejos estén las
+// fechas; las jornadas de otras semanas se ignoran.
+// No es seguro para varios hilos, lo protege CalendarioOcupacion
+public class CalendarioEmpleado {
+
+    private static final int DIAS_SEMANA = 7;
+
+    private final Map<Long, Semana> semanas = new HashMap<>();
+
+    // Reemplaza la semana que empieza en inicioSemana por las jornadas leídas de la base
+    public void cargarSemana(LocalDate inicioSemana, List<DiaCalendario> dias) {
+        Semana semana = new Semana();
+        for (DiaCalendario dia : dias) {
+            semana.sumar(dia.fecha().toEpochDay() - inicioSemana.toEpochDay(), dia.conceptoId(), dia.horasTrabajadas());
+        }
+        semanas.put(inicioSemana.toEpochDay(), semana);
+    }
+
+    public boolean tieneSemana(LocalDate inicioSemana) {
+        return semanas.containsKey(inicioSemana.toEpochDay());
+    }
+
+    public void registrar(LocalDate fecha, Integer conceptoId, Integer horasTrabajadas) {
+        LocalDate inicioSemana = AcumuladoJornada.inicioSemana(fecha);
+        Semana semana = semanas.get(inicioSemana.toEpochDay());
+        if (semana != null) {
+            semana.sumar(fecha.toEpochDay() - inicioSemana.toEpochDay(), conceptoId, horasTrabajadas);
+        }
+    }
+
+    // Si la semana está cargada y tiene las mismas jornadas y horas que su acumulado
+    public boolean coincide(LocalDate inicioSemana, int jornadas, int horasSemana) {
+        Semana semana = semanas.get(inicioSemana.toEpochDay());
+        if (semana == null) {
+            return false;
+        }
+        int horasContadas = 0;
+        for (byte horasDia : semana.horas) {
+            horasContadas += horasDia & 0xFF;
+        }
+        int jornadasContadas = 0;
+        for (byte dias : semana.diasPorConcepto) {
+            jornadasContadas += Integer.bitCount(dias & 0xFF);
+        }
+        return jornadasContadas == jornadas && horasContadas == horasSemana;
+    }
+
+    public int horas(LocalDate fecha) {
+        LocalDate inicioSemana = AcumuladoJornada.inicioSemana(fecha);
+        Semana semana = semanas.get(inicioSemana.toEpochDay());
+        return semana != null ? semana.horas[(int) (fecha.toEpochDay() - inicioSemana.toEpochDay())] & 0xFF : 0;
+    }
+
+    public boolean tieneConcepto(LocalDate fecha, Integer conceptoId) {
+        LocalDate inicioSemana = AcumuladoJornada.inicioSemana(fecha);
+        Semana semana = semanas.get(inicioSemana.toEpochDay());
+        return semana != null && semana.tieneConcepto((int) (fecha.toEpochDay() - inicioSemana.toEpochDay()), conceptoId);
+    }
+
+    // Los conceptos son pocos, así que se buscan recorriendo el arreglo
+    private static class Semana {
+
+        private final byte[] horas = new byte[DIAS_SEMANA];
+        private int[] conceptos = new int[0];
+        // Un bit por día de la semana, en el mismo orden que conceptos
+        private byte[] diasPorConcepto = new byte[0];
+
+        private void sumar(long dia, Integer conceptoId, Integer horasTrabajadas) {
+            int indice = (int) dia;
+            horas[indice] = (byte) Math.min((horas[indice] & 0xFF) + (horasTrabajadas != null ? horasTrabajadas : 0), 255);
+            int posicion = posicion(conceptoId);
+            if (posicion < 0) {
+                posicion = conceptos.length;
+                conceptos = Arrays.copyOf(conceptos, posicion + 1);
+                diasPorConcepto = Arrays.copyOf(diasPorConcepto, posicion + 1);
+                conceptos[posicion] = conceptoId;
+            }
+            diasPorConcepto[posicion] |= (byte) (1 << indice);
+        }
+
+        private boolean tieneConcepto(int dia, Integer conceptoId) {
+            int posicion = posicion(conceptoId);
+            return posicion >= 0 && (diasPorConcepto[posicion] & (1 << dia)) != 0;
+        }
+
+        private int posicion(Integer conceptoId) {
+            for (int i = 0; i < conceptos.length; i++) {
+                if (conceptos[i] == conceptoId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.repository.DiaCalendario;
+import com.turnosrotativos.repository.JornadaLaboralRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Calendarios en memoria de los empleados, para que el alta de una jornada sepa las horas del día y si ya
+// tiene ese concepto sin traer las jornadas del día como entidades. Guarda hasta maximoEmpleados calendarios
+// y desaloja el usado hace más tiempo. De cada empleado tiene solo las semanas consultadas, leídas de la base
+// la primera vez. Las consultas se hacen con la franja del empleado tomada en BloqueoJornadas, y las altas se
+// aplican en el commit, antes de liberar esas franjas: así nadie lee un calendario sin la última jornada
+// confirmada. La aplicación corre como una sola instancia por base, pero lo que se escriba en ella por fuera
+// (SQL a mano, una corrección de datos) se detecta comparando la semana con su acumulado, que se lee con
+// bloqueo de fila: si no coinciden, la semana se vuelve a leer
+@Component
+public class CalendarioOcupacion {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalendarioOcupacion.class);
+    private static final int TAMANIO_LOTE_CARGA = 1000;
+
+    private final JornadaLaboralRepository jornadaLaboralRepository;
+    private final int maximoEmpleados;
+    private final AtomicLong aciertos = new AtomicLong();
+    private final AtomicLong fallos = new AtomicLong();
+    private final AtomicLong desactualizados = new AtomicLong();
+    private final AtomicLong desalojos = new AtomicLong();
+    // Lock en lugar de synchronized, igual que en RegistroConceptos. Nunca se consulta la base con el lock tomado
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Integer, CalendarioEmpleado> calendarios;
+    // Cuenta las altas aplicadas, para que la precarga descarte lo que leyó si hubo altas mientras tanto
+    private long modificaciones;
+
+    public CalendarioOcupacion(JornadaLaboralRepository jornadaLaboralRepository,
+                               @Value("${turnos.calendario.maximo-empleados:10000}") int maximoEmpleados) {
+        this.jornadaLaboralRepository = jornadaLaboralRepository;
+        this.maximoEmpleados = maximoEmpleados;
+        this.calendarios = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CalendarioEmpleado> eldest) {
+                if (size() > CalendarioOcupacion.this.maximoEmpleados) {
+                    desalojos.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // Al arrancar carga la semana actual de los empleados con las jornadas más recientes en ella, hasta el máximo
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargar() {
+        LocalDate inicioSemana = AcumuladoJornada.inicioSemana(LocalDate.now());
+        LocalDate finSemana = inicioSemana.plusDays(6);
+        List<Integer> empleadoIds = jornadaLaboralRepository.buscarEmpleadosPorActividad(
+                inicioSemana, finSemana, Limit.of(maximoEmpleados));
+        int cargados = 0;
+        for (int desde = 0; desde < empleadoIds.size(); desde += TAMANIO_LOTE_CARGA) {
+            List<Integer> lote = empleadoIds.subList(desde, Math.min(desde + TAMANIO_LOTE_CARGA, empleadoIds.size()));
+            long modificacionesAntes = modificaciones();
+            Map<Integer, List<DiaCalendario>> leidos = leer(lote, inicioSemana);
+            lock.lock();
+            try {
+                if (modificaciones != modificacionesAntes) {
+                    continue;
+                }
+                leidos.forEach((id, dias) -> calendarios.computeIfAbsent(id, nuevo -> new CalendarioEmpleado())
+                        .cargarSemana(inicioSemana, dias));
+                cargados += leidos.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+        logger.info("Calendario de ocupación cargado con {} empleados", cargados);
+    }
+
+    // Debe llamarse con la franja del empleado tomada en BloqueoJornadas y con el acumulado de la semana de la
+    // fecha leído con bloqueo de fila, así lo que se compara es lo último confirmado en la base
+    public Ocupacion ocupacion(Integer empleadoId, LocalDate fecha, Integer conceptoId, AcumuladoJornada semana) {
+        LocalDate inicioSemana = semana.getInicioPeriodo();
+        boolean desactualizado;
+        lock.lock();
+        try {
+            CalendarioEmpleado calendario = calendarios.get(empleadoId);
+            if (calendario != null && calendario.coincide(inicioSemana, semana.getJornadas(), semana.getHoras())) {
+                aciertos.incrementAndGet();
+                return new Ocupacion(calendario.horas(fecha), calendario.tieneConcepto(fecha, conceptoId));
+            }
+            desactualizado = calendario != null && calendario.tieneSemana(inicioSemana);
+        } finally {
+            lock.unlock();
+        }
+        if (desactualizado) {
+            desactualizados.incrementAndGet();
+            logger.debug("La semana del {} del empleado con Id: {} no coincide con su acumulado, se vuelve a leer",
+                    inicioSemana, empleadoId);
+        } else {
+            fallos.incrementAndGet();
+        }
+        List<DiaCalendario> dias = leer(List.of(empleadoId), inicioSemana).get(empleadoId);
+        lock.lock();
+        try {
+            CalendarioEmpleado calendario = calendarios.computeIfAbsent(empleadoId, id -> new CalendarioEmpleado());
+            calendario.cargarSemana(inicioSemana, dias);
+            return new Ocupacion(calendario.horas(fecha), calendario.tieneConcepto(fecha, conceptoId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Suma las jornadas a los calendarios cuando la transacción hace commit. Si el empleado o la semana no
+    // están, se leerán de la base la próxima vez, ya con estas jornadas
+    public void registrar(Collection<JornadaLaboral> jornadas) {
+        List<DiaCalendario> dias = jornadas.stream()
+                .map(j -> new DiaCalendario(j.getEmpleado().getId(), j.getFecha(), j.getConceptoLaboral().getId(), j.getHorasTrabajadas()))
+                .toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aplicar(dias);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aplicar(dias);
+            }
+        });
+    }
+
+    public void invalidar() {
+        lock.lock();
+        try {
+            calendarios.clear();
+            modificaciones++;
+        } finally {
+            lock.unlock();
+        }
+        logger.info("Se invalidó el calendario de ocupación");
+    }
+
+    public int getEmpleados() {
+        lock.lock();
+        try {
+            return calendarios.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAciertos() {
+        return aciertos.get();
+    }
+
+    public long getFallos() {
+        return fallos.get();
+    }
+
+    public long getDesactualizados() {
+        return desactualizados.get();
+    }
+
+    public long getDesalojos() {
+        return desalojos.get();
+    }
+
+    private void aplicar(List<DiaCalendario> dias) {
+        lock.lock();
+        try {
+            modificaciones++;
+            for (DiaCalendario dia : dias) {
+                CalendarioEmpleado calendario = calendarios.get(dia.empleadoId());
+                if (calendario != null) {
+                    calendario.registrar(dia.fecha(), dia.conceptoId(), dia.horasTrabajadas());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long modificaciones() {
+        lock.lock();
+        try {
+            return modificaciones;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Jornadas de la semana de cada empleado; los que no tienen quedan con la lista vacía
+    private Map<Integer, List<DiaCalendario>> leer(List<Integer> empleadoIds, LocalDate inicioSemana) {
+        Map<Integer, List<DiaCalendario>> leidos = new HashMap<>();
+        empleadoIds.forEach(id -> leidos.put(id, new ArrayList<>()));
+        for (DiaCalendario dia : jornadaLaboralRepository.buscarCalendarios(empleadoIds, inicioSemana, inicioSemana.plusDays(6))) {
+            leidos.get(dia.empleadoId()).add(dia);
+        }
+        return leidos;
+    }
+
+    public record Ocupacion(int horas, boolean conceptoRegistrado) {
+    }
+}
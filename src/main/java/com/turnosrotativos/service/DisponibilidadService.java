@@ -0,0 +1,91 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.DisponibilidadEmpleadoDTO;
+import com.turnosrotativos.exception.NotFoundException;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.TipoConcepto;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.repository.AcumuladoJornadaRepository;
+import com.turnosrotativos.repository.DisponibilidadFila;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+public class DisponibilidadService {
+
+    // Primero quien puede trabajar más horas ese día, después quien tiene más horas libres en la semana y en el mes
+    private static final Comparator<DisponibilidadEmpleadoDTO> RANKING = Comparator
+            .comparing((DisponibilidadEmpleadoDTO d) -> d.horasDisponibles() != null ? d.horasDisponibles() : 0)
+            .thenComparingInt(DisponibilidadEmpleadoDTO::horasRestantesSemana)
+            .thenComparingInt(DisponibilidadEmpleadoDTO::horasRestantesMes)
+            .reversed()
+            .thenComparing(DisponibilidadEmpleadoDTO::idEmpleado);
+
+    @Autowired
+    private AcumuladoJornadaRepository acumuladoJornadaRepository;
+
+    @Autowired
+    private RegistroConceptos registroConceptos;
+
+    @Autowired
+    private ValidadorService validadorService;
+
+    // Empleados que pueden tomar una jornada del concepto en la fecha. Los totales salen de una sola consulta
+    // y cada empleado pasa por las mismas reglas que un alta, con las horas mínimas del concepto
+    @Transactional(readOnly = true)
+    public List<DisponibilidadEmpleadoDTO> obtenerDisponibles(LocalDate fecha, Integer conceptoId) {
+        ConceptoLaboral concepto = registroConceptos.obtener(conceptoId)
+                .orElseThrow(() -> new NotFoundException("No existe el concepto ingresado."));
+        ConceptoLaboral diaLibre = registroConceptos.todos().stream()
+                .filter(c -> c.getTipo() == TipoConcepto.DIA_LIBRE)
+                .findFirst().orElse(null);
+        LocalDate inicioSemana = AcumuladoJornada.inicioSemana(fecha);
+        LocalDate inicioMes = AcumuladoJornada.inicioMes(fecha);
+        Integer horasMinimas = concepto.esLaborable() ? (concepto.getHsMinimo() != null ? concepto.getHsMinimo() : 1) : null;
+
+        List<DisponibilidadEmpleadoDTO> disponibles = new ArrayList<>();
+        for (DisponibilidadFila fila : acumuladoJornadaRepository.buscarDisponibilidad(fecha, conceptoId)) {
+            AcumuladoJornada semana = AcumuladoJornada.conTotales(fila.id(), TipoPeriodo.SEMANA, inicioSemana,
+                    fila.horasSemana(), fila.diasLibresSemana(), fila.turnosExtraSemana(), fila.turnosNormalesSemana());
+            AcumuladoJornada mes = AcumuladoJornada.conTotales(fila.id(), TipoPeriodo.MES, inicioMes,
+                    fila.horasMes(), fila.diasLibresMes(), fila.turnosExtraMes(), fila.turnosNormalesMes());
+            SnapshotValidacion snapshot = SnapshotValidacion.desdeTotales(fila.horasDia(), semana, mes,
+                    fila.empleadosConceptoDia(), fila.jornadasConceptoDia() > 0);
+            if (validadorService.admite(snapshot, concepto, horasMinimas)) {
+                disponibles.add(disponibilidad(fila, concepto, diaLibre, semana, mes));
+            }
+        }
+        disponibles.sort(RANKING);
+        return disponibles;
+    }
+
+    private DisponibilidadEmpleadoDTO disponibilidad(DisponibilidadFila fila, ConceptoLaboral concepto, ConceptoLaboral diaLibre,
+                                                     AcumuladoJornada semana, AcumuladoJornada mes) {
+        int horasRestantesDia = ValidadorService.MAX_HORAS_DIA - fila.horasDia();
+        int horasRestantesSemana = ValidadorService.MAX_HORAS_SEMANA - semana.getHoras();
+        int horasRestantesMes = ValidadorService.MAX_HORAS_MES - mes.getHoras();
+        Integer horasDisponibles = null;
+        if (concepto.esLaborable()) {
+            horasDisponibles = Math.min(horasRestantesDia, Math.min(horasRestantesSemana, horasRestantesMes));
+            if (concepto.getHsMaximo() != null) {
+                horasDisponibles = Math.min(horasDisponibles, concepto.getHsMaximo());
+            }
+        }
+        return new DisponibilidadEmpleadoDTO(fila.id(), fila.nroDocumento(), fila.nombre() + " " + fila.apellido(),
+                horasDisponibles, horasRestantesDia, horasRestantesSemana, horasRestantesMes,
+                restante(concepto.getMaxSemanal(), semana, concepto.getTipo()),
+                restante(concepto.getMaxMensual(), mes, concepto.getTipo()),
+                diaLibre != null ? restante(diaLibre.getMaxSemanal(), semana, TipoConcepto.DIA_LIBRE) : null,
+                diaLibre != null ? restante(diaLibre.getMaxMensual(), mes, TipoConcepto.DIA_LIBRE) : null);
+    }
+
+    private static Integer restante(Integer maximo, AcumuladoJornada acumulado, TipoConcepto tipo) {
+        return maximo != null ? Math.max(maximo - acumulado.getCantidad(tipo), 0) : null;
+    }
+}
@@ -0,0 +1,123 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.EmpleadoLoteResultadoDTO;
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.repository.EmpleadoRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class EmpleadoLoteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmpleadoLoteService.class);
+    private static final int TAMANIO_MAXIMO_LOTE = 5000;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private IndiceIdentidad indiceIdentidad;
+
+    @Autowired
+    private Validator validator;
+
+    // Valida todas las filas, busca en el índice de identidad (o, mientras se carga, con una sola consulta)
+    // los documentos y emails que ya existen y guarda las filas válidas en batch. Si dos filas del lote repiten documento o email, se rechaza la segunda
+    @Transactional
+    public List<EmpleadoLoteResultadoDTO> crearEmpleados(List<EmpleadoDTO> empleadosDTO) {
+        if (empleadosDTO == null || empleadosDTO.isEmpty()) {
+            throw new BadRequestException("El lote debe contener al menos un empleado.");
+        }
+        if (empleadosDTO.size() > TAMANIO_MAXIMO_LOTE) {
+            throw new BadRequestException("El lote no puede superar los " + TAMANIO_MAXIMO_LOTE + " empleados.");
+        }
+        logger.debug("Iniciando alta de un lote de {} empleados", empleadosDTO.size());
+
+        EmpleadoLoteResultadoDTO[] resultados = new EmpleadoLoteResultadoDTO[empleadosDTO.size()];
+        List<Integer> indicesValidos = new ArrayList<>();
+        for (int i = 0; i < empleadosDTO.size(); i++) {
+            String errores = validarCampos(empleadosDTO.get(i));
+            if (errores.isEmpty()) {
+                indicesValidos.add(i);
+            } else {
+                resultados[i] = EmpleadoLoteResultadoDTO.rechazado(i, 400, errores);
+            }
+        }
+
+        if (!indicesValidos.isEmpty()) {
+            Set<Integer> documentosUsados = new HashSet<>();
+            Set<String> emailsUsados = new HashSet<>();
+            if (indiceIdentidad.isCargado()) {
+                for (Integer indice : indicesValidos) {
+                    EmpleadoDTO empleadoDTO = empleadosDTO.get(indice);
+                    if (indiceIdentidad.existeDocumento(empleadoDTO.getNroDocumento())) {
+                        documentosUsados.add(empleadoDTO.getNroDocumento());
+                    }
+                    if (indiceIdentidad.existeEmail(empleadoDTO.getEmail())) {
+                        emailsUsados.add(empleadoDTO.getEmail());
+                    }
+                }
+            } else {
+                buscarExistentes(empleadosDTO, indicesValidos).forEach(empleado -> {
+                    documentosUsados.add(empleado.getNroDocumento());
+                    emailsUsados.add(empleado.getEmail());
+                });
+            }
+
+            List<Integer> indicesAceptados = new ArrayList<>();
+            List<Empleado> aceptados = new ArrayList<>();
+            for (Integer indice : indicesValidos) {
+                EmpleadoDTO empleadoDTO = empleadosDTO.get(indice);
+                // Una fila rechazada no reserva su email ni su documento para las siguientes
+                if (emailsUsados.contains(empleadoDTO.getEmail())) {
+                    resultados[indice] = EmpleadoLoteResultadoDTO.rechazado(indice, 409, "Ya existe un empleado con el email ingresado.");
+                } else if (documentosUsados.contains(empleadoDTO.getNroDocumento())) {
+                    resultados[indice] = EmpleadoLoteResultadoDTO.rechazado(indice, 409, "Ya existe un empleado con el documento ingresado.");
+                } else {
+                    emailsUsados.add(empleadoDTO.getEmail());
+                    documentosUsados.add(empleadoDTO.getNroDocumento());
+                    indicesAceptados.add(indice);
+                    aceptados.add(empleadoDTO.toEntity());
+                }
+            }
+
+            // Con ids por secuencia Hibernate agrupa estos inserts según hibernate.jdbc.batch_size
+            List<Empleado> guardados = empleadoRepository.saveAll(aceptados);
+            for (int i = 0; i < guardados.size(); i++) {
+                Integer indice = indicesAceptados.get(i);
+                resultados[indice] = EmpleadoLoteResultadoDTO.creado(indice, EmpleadoDTO.fromEntity(guardados.get(i)));
+            }
+            logger.info("Lote procesado: {} empleados creados de {}", guardados.size(), empleadosDTO.size());
+        }
+        return List.of(resultados);
+    }
+
+    private String validarCampos(EmpleadoDTO empleadoDTO) {
+        if (empleadoDTO == null) {
+            return "El empleado no puede ser nulo.";
+        }
+        Set<ConstraintViolation<EmpleadoDTO>> violaciones = validator.validate(empleadoDTO);
+        return violaciones.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    private List<Empleado> buscarExistentes(List<EmpleadoDTO> empleadosDTO, List<Integer> indicesValidos) {
+        Set<Integer> documentos = indicesValidos.stream().map(i -> empleadosDTO.get(i).getNroDocumento()).collect(Collectors.toSet());
+        Set<String> emails = indicesValidos.stream().map(i -> empleadosDTO.get(i).getEmail()).collect(Collectors.toSet());
+        return empleadoRepository.findByNroDocumentoInOrEmailIn(documentos, emails);
+    }
+}
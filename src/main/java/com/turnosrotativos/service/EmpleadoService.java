@@ -1,70 +1,153 @@
 package com.turnosrotativos.service;
 
 import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.PaginaEmpleadosDTO;
+import com.turnosrotativos.exception.ConflictException;
 import com.turnosrotativos.exception.NotFoundException;
+import com.turnosrotativos.exception.PreconditionFailedException;
 import com.turnosrotativos.model.Empleado;
 import com.turnosrotativos.repository.EmpleadoRepository;
 import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.repository.FiltroEmpleados;
 import com.turnosrotativos.repository.JornadaLaboralRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class EmpleadoService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmpleadoService.class);
+    private static final List<String> CAMPOS = List.of("id", "nombre", "apellido", "email", "nroDocumento",
+            "fechaNacimiento", "fechaIngreso", "fechaCreacion");
+    private static final List<String> CAMPOS_ORDENABLES = List.of("id", "apellido", "nombre", "nroDocumento", "fechaIngreso");
     private final EmpleadoRepository empleadoRepository;
     private final JornadaLaboralRepository jornadaLaboralRepository;
+    private final RegistroEmpleados registroEmpleados;
+    private final IndiceIdentidad indiceIdentidad;
 
     @Autowired
     public EmpleadoService(EmpleadoRepository empleadoRepository,
-                           JornadaLaboralRepository jornadaLaboralRepository) {
+                           JornadaLaboralRepository jornadaLaboralRepository,
+                           RegistroEmpleados registroEmpleados,
+                           IndiceIdentidad indiceIdentidad) {
         this.empleadoRepository = empleadoRepository;
         this.jornadaLaboralRepository = jornadaLaboralRepository;
+        this.registroEmpleados = registroEmpleados;
+        this.indiceIdentidad = indiceIdentidad;
     }
 
     @Transactional
     public EmpleadoDTO crearEmpleado(EmpleadoDTO empleadoDTO) {
-        logger.info("Iniciando creación de empleado");
+        logger.debug("Iniciando creación de empleado");
+        validarIdentidadLibre(empleadoDTO.getNroDocumento(), empleadoDTO.getEmail());
         Empleado empleado = empleadoDTO.toEntity();
         Empleado empleadoCreado = empleadoRepository.save(empleado);
-        logger.info("Empleado creado exitosamente con Id: {}", empleadoCreado.getId());
+        logger.debug("Empleado creado exitosamente con Id: {}", empleadoCreado.getId());
         return EmpleadoDTO.fromEntity(empleadoCreado);
     }
 
 
-    public List<EmpleadoDTO> obtenerTodosLosEmpleados() {
-        List<Empleado> empleados = empleadoRepository.findAll();
-        logger.info("Obteniendo todos los empleados");
-        return empleados.stream()
-                .map(EmpleadoDTO::fromEntity)
-                .collect(Collectors.toList());
+    // Página de empleados sin count: se pide una fila de más para saber si hay otra página
+    public PaginaEmpleadosDTO obtenerEmpleados(FiltroEmpleados filtro, String campos, String orden, int pagina, int tamanio) {
+        logger.debug("Obteniendo la página {} de empleados", pagina);
+        List<String> columnas = parsearCampos(campos);
+        Sort sort = parsearOrden(orden);
+        int desde;
+        try {
+            desde = Math.multiplyExact(pagina, tamanio);
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("La página pedida está fuera de rango para ese tamaño de página.");
+        }
+        List<EmpleadoDTO> empleados = empleadoRepository.buscarPagina(filtro, columnas, sort, desde, tamanio + 1);
+        Integer siguientePagina = null;
+        if (empleados.size() > tamanio) {
+            empleados = new ArrayList<>(empleados.subList(0, tamanio));
+            siguientePagina = pagina + 1;
+        }
+        return new PaginaEmpleadosDTO(empleados, siguientePagina);
+    }
+
+    // El id siempre se devuelve, así cada fila del listado se puede abrir o editar
+    private List<String> parsearCampos(String campos) {
+        if (campos == null || campos.isBlank()) {
+            return CAMPOS;
+        }
+        Set<String> pedidos = new LinkedHashSet<>();
+        pedidos.add("id");
+        for (String campo : campos.split(",")) {
+            String nombre = campo.trim();
+            if (!CAMPOS.contains(nombre)) {
+                throw new BadRequestException("El campo '" + nombre + "' no existe. Campos válidos: " + String.join(", ", CAMPOS) + ".");
+            }
+            pedidos.add(nombre);
+        }
+        return List.copyOf(pedidos);
+    }
+
+    // Formato campo o campo,desc. Se agrega el id al final para que el orden entre páginas sea estable
+    private Sort parsearOrden(String orden) {
+        if (orden == null || orden.isBlank()) {
+            return Sort.by("id");
+        }
+        String[] partes = orden.split(",");
+        String campo = partes[0].trim();
+        if (!CAMPOS_ORDENABLES.contains(campo)) {
+            throw new BadRequestException("No se puede ordenar por '" + campo + "'. Campos válidos: " + String.join(", ", CAMPOS_ORDENABLES) + ".");
+        }
+        Sort.Direction direccion = Sort.Direction.ASC;
+        if (partes.length > 1) {
+            direccion = Sort.Direction.fromOptionalString(partes[1].trim())
+                    .orElseThrow(() -> new BadRequestException("La dirección del orden debe ser 'asc' o 'desc'."));
+        }
+        Sort sort = Sort.by(direccion, campo);
+        return campo.equals("id") ? sort : sort.and(Sort.by(direccion, "id"));
     }
 
     public EmpleadoDTO obtenerEmpleadoPorId(Integer id) {
-        logger.info("Buscando empleado con Id: {}", id);
-        Empleado empleado = empleadoRepository.findById(Long.valueOf(id))
+        logger.debug("Buscando empleado con Id: {}", id);
+        Empleado empleado = registroEmpleados.obtener(id)
                 .orElseThrow(() -> {
                     logger.warn("No se encontró el empleado con Id: {}", id);
                     return new NotFoundException("No se encontró el empleado con Id: " + id);
                 });
-        logger.info("Obteniendo empleado: {}", empleado);
+        logger.debug("Empleado encontrado con Id: {}", id);
         return EmpleadoDTO.fromEntity(empleado);
     }
 
+    // Si el empleado está en la caché no se consulta la base; si no, se lee solo la versión
+    public Integer obtenerVersionEmpleado(Integer id) {
+        return registroEmpleados.enMemoria(id).map(Empleado::getVersion)
+                .or(() -> empleadoRepository.buscarVersion(id))
+                .orElseThrow(() -> new NotFoundException("No se encontró el empleado con Id: " + id));
+    }
+
+    // Si versionEsperada no es null tiene que coincidir con la actual, así no se pisa el cambio de otro cliente.
+    // Un cambio concurrente entre la lectura y el commit lo detecta Hibernate con la columna version
     @Transactional
-    public EmpleadoDTO actualizarEmpleado(Integer empleadoId, EmpleadoDTO empleadoDTO) {
-        logger.info("Iniciando actualización de empleado con Id: {}", empleadoId);
+    public EmpleadoDTO actualizarEmpleado(Integer empleadoId, EmpleadoDTO empleadoDTO, Integer versionEsperada) {
+        logger.debug("Iniciando actualización de empleado con Id: {}", empleadoId);
         Empleado empleadoExistente = empleadoRepository.findById(Long.valueOf(empleadoId))
                 .orElseThrow(() -> {
                     logger.warn("Intento de actualizar empleado inexistente con Id: {}", empleadoId);
                     return new NotFoundException("No se encontró el empleado con Id: " + empleadoId);
                 });
+        if (versionEsperada != null && !versionEsperada.equals(empleadoExistente.getVersion())) {
+            logger.warn("Actualización del empleado con Id: {} sobre una versión desactualizada", empleadoId);
+            throw new PreconditionFailedException("El empleado fue modificado por otra solicitud. Volvé a consultarlo antes de actualizarlo.");
+        }
+        // Solo se verifican el documento y el email que cambian: los actuales son del mismo empleado
+        validarIdentidadLibre(
+                Objects.equals(empleadoDTO.getNroDocumento(), empleadoExistente.getNroDocumento()) ? null : empleadoDTO.getNroDocumento(),
+                Objects.equals(empleadoDTO.getEmail(), empleadoExistente.getEmail()) ? null : empleadoDTO.getEmail());
         //Actualizamos al empleado seleccionado
         empleadoExistente.setNombre(empleadoDTO.getNombre());
         empleadoExistente.setApellido(empleadoDTO.getApellido());
@@ -73,13 +156,28 @@ public class EmpleadoService {
         empleadoExistente.setFechaNacimiento(empleadoDTO.getFechaNacimiento());
         empleadoExistente.setFechaIngreso(empleadoDTO.getFechaIngreso());
         empleadoRepository.save(empleadoExistente);
-        logger.info("Empleado actualizado exitosamente con Id: {}", empleadoId);
+        // El flush incrementa la versión, así la respuesta lleva el ETag nuevo
+        empleadoRepository.flush();
+        logger.debug("Empleado actualizado exitosamente con Id: {}", empleadoId);
         return EmpleadoDTO.fromEntity(empleadoExistente);
     }
 
+    // Documento y email repetidos se rechazan con el índice de identidad, sin intentar el insert. Si otra
+    // solicitud los toma entre esta verificación y el commit, los frena la restricción de unicidad de la tabla
+    private void validarIdentidadLibre(Integer nroDocumento, String email) {
+        if (email != null && indiceIdentidad.existeEmail(email)) {
+            logger.warn("Intento de usar un email que ya tiene otro empleado");
+            throw new ConflictException("Ya existe un empleado con el email ingresado.");
+        }
+        if (nroDocumento != null && indiceIdentidad.existeDocumento(nroDocumento)) {
+            logger.warn("Intento de usar un documento que ya tiene otro empleado");
+            throw new ConflictException("Ya existe un empleado con el documento ingresado.");
+        }
+    }
+
     @Transactional
     public void eliminarEmpleado(Integer empleadoId) {
-        logger.info("Iniciando eliminación de empleado con Id: {}", empleadoId);
+        logger.debug("Iniciando eliminación de empleado con Id: {}", empleadoId);
         Empleado empleado = empleadoRepository.findById(Long.valueOf(empleadoId))
                 .orElseThrow(() -> {
                     logger.warn("Intento de eliminar empleado inexistente. Id: {}", empleadoId);
@@ -91,6 +189,6 @@ public class EmpleadoService {
             throw new BadRequestException("No es posible eliminar un empleado con jornadas asociadas.");
         }
         empleadoRepository.delete(empleado);
-        logger.info("Empleado eliminado exitosamente. Id: {}", empleadoId);
+        logger.debug("Empleado eliminado exitosamente. Id: {}", empleadoId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.repository.ConteoConceptoDia;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Estado en memoria de un lote: arranca con lo que hay en la base y suma cada jornada aceptada,
+// así las filas siguientes del mismo lote se validan contra ella
+public class EstadoValidacionLote {
+
+    private final Map<ClavePeriodo, AcumuladoJornada> acumulados = new HashMap<>();
+    private final Map<ClaveEmpleadoDia, List<JornadaLaboral>> jornadasPorEmpleadoDia = new HashMap<>();
+    private final Map<ClaveConceptoDia, Integer> empleadosPorConceptoDia = new HashMap<>();
+
+    public EstadoValidacionLote(List<AcumuladoJornada> acumuladosExistentes, List<JornadaLaboral> jornadasExistentes,
+                                List<ConteoConceptoDia> conteosExistentes) {
+        for (AcumuladoJornada acumulado : acumuladosExistentes) {
+            acumulados.put(new ClavePeriodo(acumulado.getEmpleadoId(), acumulado.getTipoPeriodo(), acumulado.getInicioPeriodo()), acumulado);
+        }
+        for (JornadaLaboral jornada : jornadasExistentes) {
+            agregarJornada(jornada);
+        }
+        for (ConteoConceptoDia conteo : conteosExistentes) {
+            empleadosPorConceptoDia.put(new ClaveConceptoDia(conteo.getFecha(), conteo.getConceptoId()),
+                    conteo.getCantidad().intValue());
+        }
+    }
+
+    public SnapshotValidacion snapshot(Integer empleadoId, LocalDate fecha, Integer conceptoId) {
+        List<JornadaLaboral> jornadasDelDia = jornadasPorEmpleadoDia.getOrDefault(new ClaveEmpleadoDia(empleadoId, fecha), List.of());
+        return SnapshotValidacion.calcular(consultarAcumulado(empleadoId, TipoPeriodo.SEMANA, fecha),
+                        consultarAcumulado(empleadoId, TipoPeriodo.MES, fecha), jornadasDelDia, empleadoId, fecha, conceptoId)
+                .conEmpleadosConceptoDia(empleadosPorConceptoDia.getOrDefault(new ClaveConceptoDia(fecha, conceptoId), 0));
+    }
+
+    public void registrar(JornadaLaboral jornada) {
+        Integer empleadoId = jornada.getEmpleado().getId();
+        agregarJornada(jornada);
+        empleadosPorConceptoDia.merge(new ClaveConceptoDia(jornada.getFecha(), jornada.getConceptoLaboral().getId()), 1, Integer::sum);
+        acumulado(empleadoId, TipoPeriodo.SEMANA, jornada.getFecha()).registrar(jornada);
+        acumulado(empleadoId, TipoPeriodo.MES, jornada.getFecha()).registrar(jornada);
+    }
+
+    public Collection<AcumuladoJornada> getAcumulados() {
+        return acumulados.values();
+    }
+
+    private AcumuladoJornada consultarAcumulado(Integer empleadoId, TipoPeriodo tipoPeriodo, LocalDate fecha) {
+        LocalDate inicioPeriodo = AcumuladoJornada.inicioPeriodo(tipoPeriodo, fecha);
+        AcumuladoJornada acumulado = acumulados.get(new ClavePeriodo(empleadoId, tipoPeriodo, inicioPeriodo));
+        return acumulado != null ? acumulado : new AcumuladoJornada(empleadoId, tipoPeriodo, inicioPeriodo);
+    }
+
+    private AcumuladoJornada acumulado(Integer empleadoId, TipoPeriodo tipoPeriodo, LocalDate fecha) {
+        LocalDate inicioPeriodo = AcumuladoJornada.inicioPeriodo(tipoPeriodo, fecha);
+        return acumulados.computeIfAbsent(new ClavePeriodo(empleadoId, tipoPeriodo, inicioPeriodo),
+                clave -> new AcumuladoJornada(empleadoId, tipoPeriodo, inicioPeriodo));
+    }
+
+    private void agregarJornada(JornadaLaboral jornada) {
+        jornadasPorEmpleadoDia.computeIfAbsent(new ClaveEmpleadoDia(jornada.getEmpleado().getId(), jornada.getFecha()),
+                clave -> new ArrayList<>()).add(jornada);
+    }
+
+    private record ClavePeriodo(Integer empleadoId, TipoPeriodo tipoPeriodo, LocalDate inicioPeriodo) {
+    }
+
+    private record ClaveEmpleadoDia(Integer empleadoId, LocalDate fecha) {
+    }
+
+    private record ClaveConceptoDia(LocalDate fecha, Integer conceptoId) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.turnosrotativos.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.turnosrotativos.model.FormatoExportacion;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+
+// Extracto mensual de jornadas para liquidación de sueldos. Las filas pasan del cursor JDBC a la salida
+// una por una, sin entidades ni DTOs, a través de un buffer de tamaño fijo: el heap usado no depende de
+// cuántas jornadas tenga el mes
+@Service
+public class ExportacionJornadasService {
+
+    private static final int TAMANIO_BUFFER = 64 * 1024;
+    private static final int FILAS_POR_LECTURA = 1000;
+    private static final String ENCABEZADO_CSV = "id,nroDocumento,nombreCompleto,fecha,concepto,horasTrabajadas\n";
+
+    private static final String CONSULTA = """
+            SELECT j.id, e.nro_documento, e.nombre, e.apellido, j.fecha, c.nombre AS concepto,
+                   c.laborable, j.horas_trabajadas
+            FROM jornada_laboral j
+            JOIN empleados e ON e.id = j.empleado_id
+            JOIN concepto_laboral c ON c.id = j.concepto_laboral_id
+            WHERE j.fecha >= ? AND j.fecha < ?
+            ORDER BY j.fecha, j.id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public ExportacionJornadasService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportar(YearMonth mes, FormatoExportacion formato, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), TAMANIO_BUFFER);
+        try {
+            if (formato == FormatoExportacion.CSV) {
+                writer.write(ENCABEZADO_CSV);
+                recorrer(mes, resultSet -> escribirCsv(resultSet, writer));
+            } else {
+                JsonGenerator generator = jsonFactory.createGenerator(writer);
+                generator.setRootValueSeparator(null);
+                recorrer(mes, resultSet -> escribirNdjson(resultSet, generator));
+                generator.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void recorrer(YearMonth mes, FilaHandler handler) {
+        jdbcTemplate.query(conexion -> {
+            PreparedStatement statement = conexion.prepareStatement(CONSULTA, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FILAS_POR_LECTURA);
+            statement.setDate(1, Date.valueOf(mes.atDay(1)));
+            statement.setDate(2, Date.valueOf(mes.plusMonths(1).atDay(1)));
+            return statement;
+        }, resultSet -> {
+            try {
+                handler.escribir(resultSet);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void escribirCsv(ResultSet resultSet, Writer writer) throws SQLException, IOException {
+        writer.write(Integer.toString(resultSet.getInt(1)));
+        writer.write(',');
+        writer.write(Integer.toString(resultSet.getInt(2)));
+        writer.write(',');
+        escribirCampoCsv(writer, resultSet.getString(3) + " " + resultSet.getString(4));
+        writer.write(',');
+        writer.write(resultSet.getDate(5).toLocalDate().toString());
+        writer.write(',');
+        escribirCampoCsv(writer, resultSet.getString(6));
+        writer.write(',');
+        Integer horas = horasTrabajadas(resultSet);
+        if (horas != null) {
+            writer.write(horas.toString());
+        }
+        writer.write('\n');
+    }
+
+    private void escribirNdjson(ResultSet resultSet, JsonGenerator generator) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", resultSet.getInt(1));
+        generator.writeNumberField("nroDocumento", resultSet.getInt(2));
+        generator.writeStringField("nombreCompleto", resultSet.getString(3) + " " + resultSet.getString(4));
+        generator.writeStringField("fecha", resultSet.getDate(5).toLocalDate().toString());
+        generator.writeStringField("concepto", resultSet.getString(6));
+        Integer horas = horasTrabajadas(resultSet);
+        if (horas != null) {
+            generator.writeNumberField("horasTrabajadas", horas);
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    // Las horas solo se informan en conceptos laborables, igual que en JornadaResponseDTO
+    private Integer horasTrabajadas(ResultSet resultSet) throws SQLException {
+        int horas = resultSet.getInt(8);
+        return !resultSet.wasNull() && resultSet.getBoolean(7) ? horas : null;
+    }
+
+    private void escribirCampoCsv(Writer writer, String valor) throws IOException {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            writer.write(valor);
+            return;
+        }
+        writer.write('"');
+        writer.write(valor.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @FunctionalInterface
+    private interface FilaHandler {
+        void escribir(ResultSet resultSet) throws SQLException, IOException;
+    }
+}
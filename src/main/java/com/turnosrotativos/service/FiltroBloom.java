@@ -0,0 +1,79 @@
+package com.turnosrotativos.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Filtro de Bloom sobre hashes de 64 bits: si dice que un valor no está, no está; si dice que está, puede
+// ser un falso positivo y hay que confirmarlo. No permite quitar valores. Las consultas no toman locks y
+// se pueden hacer mientras otro hilo agrega
+public class FiltroBloom {
+
+    // Con 10 bits por valor y 7 funciones de hash los falsos positivos rondan el 1 %
+    private static final int BITS_POR_VALOR = 10;
+    private static final int CANTIDAD_HASHES = 7;
+    private static final int BITS_MINIMOS = 1 << 16;
+
+    private final AtomicLongArray bits;
+    private final int mascara;
+    private final int capacidad;
+
+    public FiltroBloom(int capacidad) {
+        this.capacidad = capacidad;
+        long cantidadBits = Math.max(BITS_MINIMOS, Long.highestOneBit((long) capacidad * BITS_POR_VALOR * 2 - 1));
+        this.bits = new AtomicLongArray((int) (cantidadBits >>> 6));
+        this.mascara = (int) (cantidadBits - 1);
+    }
+
+    // Valores para los que se dimensionó; con más, los falsos positivos aumentan
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    public void agregar(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < CANTIDAD_HASHES; i++) {
+            int bit = (h1 + i * h2) & mascara;
+            long marca = 1L << bit;
+            int palabra = bit >>> 6;
+            long actual;
+            while (((actual = bits.get(palabra)) & marca) == 0 && !bits.compareAndSet(palabra, actual, actual | marca)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    public boolean puedeContener(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < CANTIDAD_HASHES; i++) {
+            int bit = (h1 + i * h2) & mascara;
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static long hash(int valor) {
+        return mezclar(valor);
+    }
+
+    // FNV-1a de 64 bits sobre los caracteres, mezclado al final para repartir mejor los bits altos
+    public static long hash(String valor) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            h ^= valor.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mezclar(h);
+    }
+
+    private static long mezclar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,230 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.repository.EmpleadoRepository;
+import com.turnosrotativos.repository.IdentidadEmpleado;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Documentos y emails de todos los empleados en memoria, para saber si existen o están en uso sin ir a la
+// base: un mapa de documento a id con direccionamiento abierto, un conjunto de emails y un filtro de Bloom
+// por cada uno, que descarta sin lock los valores que no están. Se carga al arrancar; hasta que termina
+// las consultas van a la base. Las altas, modificaciones y bajas se aplican en el commit. Como la aplicación
+// corre como una sola instancia por base, una vez cargado sus respuestas son definitivas; la restricción de
+// unicidad de la tabla sigue siendo la garantía final
+@Component
+public class IndiceIdentidad {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndiceIdentidad.class);
+    private static final int TAMANIO_LOTE_CARGA = 10000;
+    private static final int CAPACIDAD_INICIAL_FILTRO = 1024;
+    // Los ids salen de una secuencia que empieza en 1
+    private static final int SIN_ID = Integer.MIN_VALUE;
+
+    private final EmpleadoRepository empleadoRepository;
+    private final AtomicLong descartes = new AtomicLong();
+    private final AtomicLong consultasIndice = new AtomicLong();
+    private final AtomicLong consultasBase = new AtomicLong();
+    // Lock en lugar de synchronized, igual que en RegistroConceptos. Nunca se consulta la base con el lock tomado
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MapaEnteros idPorDocumento = new MapaEnteros();
+    private final Set<String> emails = new HashSet<>();
+    private final Map<Integer, IdentidadEmpleado> porId = new HashMap<>();
+    private volatile FiltroBloom filtroDocumentos = new FiltroBloom(CAPACIDAD_INICIAL_FILTRO);
+    private volatile FiltroBloom filtroEmails = new FiltroBloom(CAPACIDAD_INICIAL_FILTRO);
+    private volatile boolean cargado;
+    // Empleados modificados mientras se carga: lo aplicado en el commit es más nuevo que lo que se leyó antes
+    private Set<Integer> modificadosDuranteCarga;
+
+    public IndiceIdentidad(EmpleadoRepository empleadoRepository) {
+        this.empleadoRepository = empleadoRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargar() {
+        lock.lock();
+        try {
+            modificadosDuranteCarga = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+        int desde = 0;
+        List<IdentidadEmpleado> lote;
+        do {
+            lote = empleadoRepository.buscarIdentidades(desde, Limit.of(TAMANIO_LOTE_CARGA));
+            lock.lock();
+            try {
+                for (IdentidadEmpleado identidad : lote) {
+                    if (!modificadosDuranteCarga.contains(identidad.id())) {
+                        reemplazar(identidad.id(), identidad);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!lote.isEmpty()) {
+                desde = lote.get(lote.size() - 1).id();
+            }
+        } while (lote.size() == TAMANIO_LOTE_CARGA);
+        lock.lock();
+        try {
+            modificadosDuranteCarga = null;
+            reconstruirFiltros();
+            cargado = true;
+            logger.info("Índice de identidad cargado con {} empleados", porId.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isCargado() {
+        return cargado;
+    }
+
+    public Optional<Integer> idPorDocumento(Integer nroDocumento) {
+        if (!cargado) {
+            consultasBase.incrementAndGet();
+            return empleadoRepository.buscarIdPorDocumento(nroDocumento);
+        }
+        if (!filtroDocumentos.puedeContener(FiltroBloom.hash(nroDocumento))) {
+            descartes.incrementAndGet();
+            return Optional.empty();
+        }
+        consultasIndice.incrementAndGet();
+        int id;
+        lock.lock();
+        try {
+            id = idPorDocumento.obtener(nroDocumento, SIN_ID);
+        } finally {
+            lock.unlock();
+        }
+        return id != SIN_ID ? Optional.of(id) : Optional.empty();
+    }
+
+    public boolean existeDocumento(Integer nroDocumento) {
+        return idPorDocumento(nroDocumento).isPresent();
+    }
+
+    public boolean existeEmail(String email) {
+        if (!cargado) {
+            consultasBase.incrementAndGet();
+            return empleadoRepository.existsByEmail(email);
+        }
+        if (!filtroEmails.puedeContener(FiltroBloom.hash(email))) {
+            descartes.incrementAndGet();
+            return false;
+        }
+        consultasIndice.incrementAndGet();
+        lock.lock();
+        try {
+            return emails.contains(email);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Registra el alta o la modificación de un empleado para cuando la transacción hace commit
+    public void registrar(Integer id, Integer nroDocumento, String email) {
+        IdentidadEmpleado identidad = new IdentidadEmpleado(id, nroDocumento, email);
+        alConfirmar(() -> aplicar(id, identidad));
+    }
+
+    public void quitar(Integer id) {
+        alConfirmar(() -> aplicar(id, null));
+    }
+
+    public int getEmpleados() {
+        lock.lock();
+        try {
+            return porId.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDescartes() {
+        return descartes.get();
+    }
+
+    public long getConsultasIndice() {
+        return consultasIndice.get();
+    }
+
+    public long getConsultasBase() {
+        return consultasBase.get();
+    }
+
+    private static void alConfirmar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+
+    private void aplicar(Integer id, IdentidadEmpleado identidad) {
+        lock.lock();
+        try {
+            if (modificadosDuranteCarga != null) {
+                modificadosDuranteCarga.add(id);
+            }
+            reemplazar(id, identidad);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reemplazar(Integer id, IdentidadEmpleado identidad) {
+        IdentidadEmpleado anterior = porId.remove(id);
+        if (anterior != null) {
+            idPorDocumento.quitar(anterior.nroDocumento());
+            emails.remove(anterior.email());
+        }
+        if (identidad != null) {
+            poner(identidad);
+        }
+    }
+
+    // Primero el filtro y después el mapa, así quien pasa el filtro sin lock encuentra el valor al tomarlo.
+    // Los filtros no permiten quitar valores: se reconstruyen cuando se llenan, sin los que ya no están
+    private void poner(IdentidadEmpleado identidad) {
+        if (porId.size() >= filtroDocumentos.getCapacidad()) {
+            reconstruirFiltros();
+        }
+        filtroDocumentos.agregar(FiltroBloom.hash(identidad.nroDocumento()));
+        filtroEmails.agregar(FiltroBloom.hash(identidad.email()));
+        porId.put(identidad.id(), identidad);
+        idPorDocumento.poner(identidad.nroDocumento(), identidad.id());
+        emails.add(identidad.email());
+    }
+
+    private void reconstruirFiltros() {
+        int capacidad = Math.max(CAPACIDAD_INICIAL_FILTRO, porId.size() * 2);
+        FiltroBloom documentos = new FiltroBloom(capacidad);
+        FiltroBloom emailsFiltro = new FiltroBloom(capacidad);
+        for (IdentidadEmpleado identidad : porId.values()) {
+            documentos.agregar(FiltroBloom.hash(identidad.nroDocumento()));
+            emailsFiltro.agregar(FiltroBloom.hash(identidad.email()));
+        }
+        filtroDocumentos = documentos;
+        filtroEmails = emailsFiltro;
+    }
+}
@@ -1,21 +1,31 @@
 package com.turnosrotativos.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turnosrotativos.dto.CursorJornada;
 import com.turnosrotativos.dto.JornadaRequestDTO;
 import com.turnosrotativos.dto.JornadaResponseDTO;
+import com.turnosrotativos.dto.PaginaJornadasDTO;
+import com.turnosrotativos.dto.ResumenJornadaDTO;
+import com.turnosrotativos.exception.BadRequestException;
 import com.turnosrotativos.exception.NotFoundException;
 import com.turnosrotativos.model.ConceptoLaboral;
 import com.turnosrotativos.model.Empleado;
 import com.turnosrotativos.model.JornadaLaboral;
-import com.turnosrotativos.repository.ConceptoLaboralRepository;
-import com.turnosrotativos.repository.EmpleadoRepository;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.repository.FiltroJornadas;
 import com.turnosrotativos.repository.JornadaLaboralRepository;
+import com.turnosrotativos.repository.ResumenJornadaFila;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.DayOfWeek;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class JornadaLaboralService {
@@ -24,84 +34,114 @@ public class JornadaLaboralService {
     private JornadaLaboralRepository jornadaLaboralRepository;
 
     @Autowired
-    private EmpleadoRepository empleadoRepository;
+    private RegistroEmpleados registroEmpleados;
 
     @Autowired
-    private ConceptoLaboralRepository conceptoLaboralRepository;
+    private IndiceIdentidad indiceIdentidad;
+
+    @Autowired
+    private RegistroConceptos registroConceptos;
 
     @Autowired
     private ValidadorService validadorService;
 
+    @Autowired
+    private AcumuladoJornadaService acumuladoJornadaService;
+
+    @Autowired
+    private BloqueoJornadas bloqueoJornadas;
+
+    @Autowired
+    private CalendarioOcupacion calendarioOcupacion;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Transactional
     public JornadaResponseDTO crearJornada(JornadaRequestDTO jornadaRequestDTO) {
-        Empleado empleado = empleadoRepository.findById(Long.valueOf(jornadaRequestDTO.getIdEmpleado()))
+        Empleado empleado = registroEmpleados.obtener(jornadaRequestDTO.getIdEmpleado())
                 .orElseThrow(() -> new NotFoundException("No existe el empleado ingresado."));
 
-        ConceptoLaboral concepto = conceptoLaboralRepository.findById(jornadaRequestDTO.getIdConcepto())
+        ConceptoLaboral concepto = registroConceptos.obtener(jornadaRequestDTO.getIdConcepto())
                 .orElseThrow(() -> new NotFoundException("No existe el concepto ingresado."));
 
         validadorService.validarHorasTrabajadas(concepto, jornadaRequestDTO.getHorasTrabajadas());
 
-        List<JornadaLaboral> jornadasSemanales = obtenerJornadasSemanales(empleado.getId(), jornadaRequestDTO.getFecha());
-        List<JornadaLaboral> jornadasMensuales = obtenerJornadasMensuales(empleado.getId(), jornadaRequestDTO.getFecha());
+        bloqueoJornadas.bloquear(empleado.getId(), jornadaRequestDTO.getFecha(), concepto.getId());
+        AcumuladoJornadaService.Acumulados acumulados = acumuladoJornadaService.obtenerParaValidacion(empleado.getId(), jornadaRequestDTO.getFecha());
+        // Lo del empleado en el día sale del calendario en memoria, comparado con el acumulado de la semana que
+        // se acaba de bloquear; de la base solo se cuenta el concepto en el día
+        CalendarioOcupacion.Ocupacion ocupacion = calendarioOcupacion.ocupacion(
+                empleado.getId(), jornadaRequestDTO.getFecha(), concepto.getId(), acumulados.semana());
+        int empleadosConceptoDia = jornadaLaboralRepository.countByFechaAndConceptoLaboralId(
+                jornadaRequestDTO.getFecha(), concepto.getId());
+        SnapshotValidacion snapshot = SnapshotValidacion.desdeTotales(ocupacion.horas(), acumulados.semana(),
+                acumulados.mes(), empleadosConceptoDia, ocupacion.conceptoRegistrado());
 
-        validadorService.validarJornada(jornadaRequestDTO, empleado, concepto, jornadasSemanales, jornadasMensuales);
+        validadorService.validarJornada(jornadaRequestDTO, concepto, snapshot);
 
         JornadaLaboral jornadaLaboral = jornadaRequestDTO.toEntity(empleado, concepto);
         jornadaLaboral = jornadaLaboralRepository.save(jornadaLaboral);
+        acumuladoJornadaService.registrar(acumulados, jornadaLaboral);
+        calendarioOcupacion.registrar(List.of(jornadaLaboral));
 
         return JornadaResponseDTO.fromEntity(jornadaLaboral);
     }
 
-    public List<JornadaResponseDTO> obtenerJornadas(LocalDate fechaDesde, LocalDate fechaHasta, Integer nroDocumento) {
-        validadorService.validarRangoFechas(fechaDesde, fechaHasta);
-        if (nroDocumento != null && !empleadoRepository.existsByNroDocumento(nroDocumento)) {
-            throw new NotFoundException("No existe un empleado con el número de documento ingresado.");
+    @Transactional(readOnly = true)
+    public PaginaJornadasDTO obtenerJornadas(LocalDate fechaDesde, LocalDate fechaHasta, Integer nroDocumento,
+                                             String cursor, int limite) {
+        FiltroJornadas filtro = crearFiltro(fechaDesde, fechaHasta, nroDocumento);
+        CursorJornada desde = cursor != null ? CursorJornada.decodificar(cursor) : null;
+        // Se pide una fila de más para saber si hay otra página sin hacer un count
+        List<JornadaResponseDTO> jornadas = jornadaLaboralRepository.buscarPagina(filtro,
+                desde != null ? desde.fecha() : null, desde != null ? desde.id() : null, limite + 1);
+        String siguienteCursor = null;
+        if (jornadas.size() > limite) {
+            jornadas = new ArrayList<>(jornadas.subList(0, limite));
+            JornadaResponseDTO ultima = jornadas.get(limite - 1);
+            siguienteCursor = new CursorJornada(ultima.getFecha(), ultima.getId()).codificar();
         }
-        List<JornadaLaboral> jornadas;
-        if (nroDocumento != null) {
-            jornadas = obtenerJornadasPorEmpleado(nroDocumento, fechaDesde, fechaHasta);
-        } else {
-            jornadas = obtenerJornadasPorFecha(fechaDesde, fechaHasta);
-        }
-        return jornadas.stream()
-                .map(JornadaResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return new PaginaJornadasDTO(jornadas, siguienteCursor);
     }
 
-    private List<JornadaLaboral> obtenerJornadasPorEmpleado(Integer nroDocumento, LocalDate fechaDesde, LocalDate fechaHasta) {
-        if (fechaDesde != null && fechaHasta != null) {
-            return jornadaLaboralRepository.findByEmpleadoNroDocumentoAndFechaBetween(nroDocumento, fechaDesde, fechaHasta);
-        } else if (fechaDesde != null) {
-            return jornadaLaboralRepository.findByEmpleadoNroDocumentoAndFechaGreaterThanEqual(nroDocumento, fechaDesde);
-        } else if (fechaHasta != null) {
-            return jornadaLaboralRepository.findByEmpleadoNroDocumentoAndFechaLessThanEqual(nroDocumento, fechaHasta);
-        } else {
-            return jornadaLaboralRepository.findByEmpleadoNroDocumento(nroDocumento);
+    // Escribe una jornada por línea a medida que se leen de la base, sin armar la lista completa
+    @Transactional(readOnly = true)
+    public void exportarJornadasNdjson(LocalDate fechaDesde, LocalDate fechaHasta, Integer nroDocumento,
+                                       OutputStream outputStream) throws IOException {
+        FiltroJornadas filtro = crearFiltro(fechaDesde, fechaHasta, nroDocumento);
+        try (Stream<JornadaResponseDTO> jornadas = jornadaLaboralRepository.streamJornadas(filtro);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            Iterator<JornadaResponseDTO> iterador = jornadas.iterator();
+            while (iterador.hasNext()) {
+                generator.writeObject(iterador.next());
+                generator.writeRaw('\n');
+            }
         }
     }
 
-    private List<JornadaLaboral> obtenerJornadasPorFecha(LocalDate fechaDesde, LocalDate fechaHasta) {
-        if (fechaDesde != null && fechaHasta != null) {
-            return jornadaLaboralRepository.findByFechaBetween(fechaDesde, fechaHasta);
-        } else if (fechaDesde != null) {
-            return jornadaLaboralRepository.findByFechaGreaterThanEqual(fechaDesde);
-        } else if (fechaHasta != null) {
-            return jornadaLaboralRepository.findByFechaLessThanEqual(fechaHasta);
-        } else {
-            return jornadaLaboralRepository.findAll();
+    // Totales por empleado, período y concepto calculados con un GROUP BY, sin traer las jornadas
+    @Transactional(readOnly = true)
+    public List<ResumenJornadaDTO> obtenerResumen(LocalDate fechaDesde, LocalDate fechaHasta, Integer nroDocumento,
+                                                  TipoPeriodo agrupacion) {
+        if (fechaDesde == null || fechaHasta == null) {
+            throw new BadRequestException("Los campos ‘fechaDesde’ y ‘fechaHasta’ son obligatorios para el resumen.");
         }
+        FiltroJornadas filtro = crearFiltro(fechaDesde, fechaHasta, nroDocumento);
+        List<ResumenJornadaFila> filas = agrupacion == TipoPeriodo.MES
+                ? jornadaLaboralRepository.resumirPorMes(filtro.fechaDesde(), filtro.fechaHasta(), filtro.nroDocumento())
+                : jornadaLaboralRepository.resumirPorSemana(filtro.fechaDesde(), filtro.fechaHasta(), filtro.nroDocumento());
+        return filas.stream()
+                .map(fila -> ResumenJornadaDTO.fromFila(fila, agrupacion))
+                .toList();
     }
 
-    private List<JornadaLaboral> obtenerJornadasSemanales(Integer empleadoId, LocalDate fecha) {
-        LocalDate startOfWeek = fecha.with(DayOfWeek.MONDAY);
-        LocalDate endOfWeek = startOfWeek.plusDays(6);
-        return jornadaLaboralRepository.findByEmpleadoIdAndFechaBetween(empleadoId, startOfWeek, endOfWeek);
-    }
-
-    private List<JornadaLaboral> obtenerJornadasMensuales(Integer empleadoId, LocalDate fecha) {
-        LocalDate startOfMonth = fecha.withDayOfMonth(1);
-        LocalDate endOfMonth = fecha.withDayOfMonth(fecha.lengthOfMonth());
-        return jornadaLaboralRepository.findByEmpleadoIdAndFechaBetween(empleadoId, startOfMonth, endOfMonth);
+    private FiltroJornadas crearFiltro(LocalDate fechaDesde, LocalDate fechaHasta, Integer nroDocumento) {
+        validadorService.validarRangoFechas(fechaDesde, fechaHasta);
+        if (nroDocumento != null && !indiceIdentidad.existeDocumento(nroDocumento)) {
+            throw new NotFoundException("No existe un empleado con el número de documento ingresado.");
+        }
+        return new FiltroJornadas(nroDocumento, fechaDesde, fechaHasta);
     }
-}
\ No newline at end of file
+}
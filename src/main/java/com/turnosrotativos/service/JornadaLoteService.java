@@ -0,0 +1,174 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.JornadaLoteResultadoDTO;
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.dto.JornadaResponseDTO;
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.exception.NotFoundException;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.repository.AcumuladoJornadaRepository;
+import com.turnosrotativos.repository.JornadaLaboralRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class JornadaLoteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JornadaLoteService.class);
+    // También es el tamaño de cada parte en que el generador de rotaciones guarda lo planificado
+    static final int TAMANIO_MAXIMO_LOTE = 5000;
+
+    @Autowired
+    private JornadaLaboralRepository jornadaLaboralRepository;
+
+    @Autowired
+    private RegistroEmpleados registroEmpleados;
+
+    @Autowired
+    private RegistroConceptos registroConceptos;
+
+    @Autowired
+    private AcumuladoJornadaRepository acumuladoJornadaRepository;
+
+    @Autowired
+    private ValidadorService validadorService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private BloqueoJornadas bloqueoJornadas;
+
+    @Autowired
+    private CalendarioOcupacion calendarioOcupacion;
+
+    @Transactional
+    public List<JornadaLoteResultadoDTO> crearJornadas(List<JornadaRequestDTO> jornadasRequestDTO) {
+        if (jornadasRequestDTO == null || jornadasRequestDTO.isEmpty()) {
+            throw new BadRequestException("El lote debe contener al menos una jornada.");
+        }
+        if (jornadasRequestDTO.size() > TAMANIO_MAXIMO_LOTE) {
+            throw new BadRequestException("El lote no puede superar las " + TAMANIO_MAXIMO_LOTE + " jornadas.");
+        }
+        logger.debug("Iniciando carga de un lote de {} jornadas", jornadasRequestDTO.size());
+        return procesarLote(jornadasRequestDTO);
+    }
+
+    // Valida y guarda las filas sin controlar el tamaño. Lo usa también el generador de rotaciones, en partes
+    // de a lo sumo TAMANIO_MAXIMO_LOTE, para que lo que genera pase por las mismas reglas y el mismo insert en batch
+    @Transactional
+    public List<JornadaLoteResultadoDTO> procesarLote(List<JornadaRequestDTO> jornadasRequestDTO) {
+        JornadaLoteResultadoDTO[] resultados = new JornadaLoteResultadoDTO[jornadasRequestDTO.size()];
+        List<Integer> indicesValidos = new ArrayList<>();
+        for (int i = 0; i < jornadasRequestDTO.size(); i++) {
+            String errores = validarCampos(jornadasRequestDTO.get(i));
+            if (errores.isEmpty()) {
+                indicesValidos.add(i);
+            } else {
+                resultados[i] = JornadaLoteResultadoDTO.rechazada(i, 400, errores);
+            }
+        }
+
+        if (!indicesValidos.isEmpty()) {
+            List<JornadaRequestDTO> validos = indicesValidos.stream().map(jornadasRequestDTO::get).toList();
+            bloqueoJornadas.bloquear(
+                    validos.stream().map(JornadaRequestDTO::getIdEmpleado).collect(Collectors.toSet()),
+                    validos.stream().map(j -> new BloqueoJornadas.ConceptoDia(j.getFecha(), j.getIdConcepto())).collect(Collectors.toSet()));
+            Map<Integer, Empleado> empleados = obtenerEmpleados(validos);
+            Map<Integer, ConceptoLaboral> conceptos = registroConceptos.conceptosPorId();
+            EstadoValidacionLote estado = cargarEstado(validos, empleados.keySet());
+
+            List<Integer> indicesAceptados = new ArrayList<>();
+            List<JornadaLaboral> aceptadas = new ArrayList<>();
+            for (Integer indice : indicesValidos) {
+                JornadaRequestDTO requestDTO = jornadasRequestDTO.get(indice);
+                try {
+                    JornadaLaboral jornada = validarFila(requestDTO, empleados, conceptos, estado);
+                    estado.registrar(jornada);
+                    indicesAceptados.add(indice);
+                    aceptadas.add(jornada);
+                } catch (NotFoundException e) {
+                    resultados[indice] = JornadaLoteResultadoDTO.rechazada(indice, 404, e.getMessage());
+                } catch (BadRequestException e) {
+                    resultados[indice] = JornadaLoteResultadoDTO.rechazada(indice, 400, e.getMessage());
+                }
+            }
+
+            // Con ids por secuencia Hibernate agrupa estos inserts según hibernate.jdbc.batch_size
+            List<JornadaLaboral> guardadas = jornadaLaboralRepository.saveAll(aceptadas);
+            acumuladoJornadaRepository.saveAll(estado.getAcumulados());
+            calendarioOcupacion.registrar(guardadas);
+            for (int i = 0; i < guardadas.size(); i++) {
+                Integer indice = indicesAceptados.get(i);
+                resultados[indice] = JornadaLoteResultadoDTO.creada(indice, JornadaResponseDTO.fromEntity(guardadas.get(i)));
+            }
+            logger.info("Lote procesado: {} jornadas creadas de {}", guardadas.size(), jornadasRequestDTO.size());
+        }
+        return List.of(resultados);
+    }
+
+    private String validarCampos(JornadaRequestDTO requestDTO) {
+        if (requestDTO == null) {
+            return "La jornada no puede ser nula.";
+        }
+        Set<ConstraintViolation<JornadaRequestDTO>> violaciones = validator.validate(requestDTO);
+        return violaciones.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    private Map<Integer, Empleado> obtenerEmpleados(List<JornadaRequestDTO> validos) {
+        Set<Integer> ids = validos.stream()
+                .map(JornadaRequestDTO::getIdEmpleado)
+                .collect(Collectors.toSet());
+        return registroEmpleados.obtenerTodos(ids);
+    }
+
+    // Trae de una vez, para todos los empleados del lote, los acumulados de los períodos que tocan
+    // sus fechas y las jornadas de esos días, más los conteos por concepto y día del rango
+    private EstadoValidacionLote cargarEstado(List<JornadaRequestDTO> validos, Set<Integer> empleadoIds) {
+        LocalDate fechaMinima = validos.stream().map(JornadaRequestDTO::getFecha).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate fechaMaxima = validos.stream().map(JornadaRequestDTO::getFecha).max(Comparator.naturalOrder()).orElseThrow();
+        LocalDate inicioSemana = AcumuladoJornada.inicioSemana(fechaMinima);
+        LocalDate inicioMes = AcumuladoJornada.inicioMes(fechaMinima);
+        LocalDate inicioPeriodos = inicioSemana.isBefore(inicioMes) ? inicioSemana : inicioMes;
+        List<AcumuladoJornada> acumulados = empleadoIds.isEmpty() ? List.of()
+                : acumuladoJornadaRepository.findByEmpleadoIdInAndInicioPeriodoBetween(empleadoIds, inicioPeriodos, fechaMaxima);
+        List<JornadaLaboral> existentes = empleadoIds.isEmpty() ? List.of()
+                : jornadaLaboralRepository.findByEmpleadoIdInAndFechaBetween(empleadoIds, fechaMinima, fechaMaxima);
+        return new EstadoValidacionLote(acumulados, existentes,
+                jornadaLaboralRepository.contarPorFechaYConcepto(fechaMinima, fechaMaxima));
+    }
+
+    private JornadaLaboral validarFila(JornadaRequestDTO requestDTO, Map<Integer, Empleado> empleados,
+                                      Map<Integer, ConceptoLaboral> conceptos, EstadoValidacionLote estado) {
+        Empleado empleado = empleados.get(requestDTO.getIdEmpleado());
+        if (empleado == null) {
+            throw new NotFoundException("No existe el empleado ingresado.");
+        }
+        ConceptoLaboral concepto = conceptos.get(requestDTO.getIdConcepto());
+        if (concepto == null) {
+            throw new NotFoundException("No existe el concepto ingresado.");
+        }
+        validadorService.validarHorasTrabajadas(concepto, requestDTO.getHorasTrabajadas());
+        SnapshotValidacion snapshot = estado.snapshot(empleado.getId(), requestDTO.getFecha(), concepto.getId());
+        validadorService.validarJornada(requestDTO, concepto, snapshot);
+        return requestDTO.toEntity(empleado, concepto);
+    }
+}
@@ -0,0 +1,119 @@
+package com.turnosrotativos.service;
+
+// Mapa de int a int con direccionamiento abierto y sondeo lineal, sin objetos por entrada. Las claves
+// borradas quedan marcadas hasta el siguiente redimensionado, para no cortar las secuencias de sondeo.
+// No es seguro para varios hilos, lo protege IndiceIdentidad
+public class MapaEnteros {
+
+    private static final byte LIBRE = 0;
+    private static final byte OCUPADO = 1;
+    private static final byte BORRADO = 2;
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    private int[] claves;
+    private int[] valores;
+    private byte[] estados;
+    private int tamanio;
+    // Ocupadas más borradas: es lo que alarga los sondeos
+    private int usadas;
+
+    public MapaEnteros() {
+        this(CAPACIDAD_MINIMA);
+    }
+
+    public MapaEnteros(int capacidadEsperada) {
+        inicializar(capacidadPara(capacidadEsperada));
+    }
+
+    public void poner(int clave, int valor) {
+        if ((usadas + 1) * 2 > estados.length) {
+            redimensionar(capacidadPara(tamanio + 1));
+        }
+        int mascara = estados.length - 1;
+        int borrado = -1;
+        for (int i = mezclar(clave) & mascara; ; i = (i + 1) & mascara) {
+            if (estados[i] == LIBRE) {
+                int destino = borrado >= 0 ? borrado : i;
+                if (borrado < 0) {
+                    usadas++;
+                }
+                claves[destino] = clave;
+                valores[destino] = valor;
+                estados[destino] = OCUPADO;
+                tamanio++;
+                return;
+            }
+            if (estados[i] == BORRADO) {
+                if (borrado < 0) {
+                    borrado = i;
+                }
+            } else if (claves[i] == clave) {
+                valores[i] = valor;
+                return;
+            }
+        }
+    }
+
+    public int obtener(int clave, int ausente) {
+        int i = buscar(clave);
+        return i >= 0 ? valores[i] : ausente;
+    }
+
+    public boolean contiene(int clave) {
+        return buscar(clave) >= 0;
+    }
+
+    public void quitar(int clave) {
+        int i = buscar(clave);
+        if (i >= 0) {
+            estados[i] = BORRADO;
+            tamanio--;
+        }
+    }
+
+    public int tamanio() {
+        return tamanio;
+    }
+
+    private int buscar(int clave) {
+        int mascara = estados.length - 1;
+        for (int i = mezclar(clave) & mascara; estados[i] != LIBRE; i = (i + 1) & mascara) {
+            if (estados[i] == OCUPADO && claves[i] == clave) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void redimensionar(int capacidad) {
+        int[] clavesAnteriores = claves;
+        int[] valoresAnteriores = valores;
+        byte[] estadosAnteriores = estados;
+        inicializar(capacidad);
+        for (int i = 0; i < estadosAnteriores.length; i++) {
+            if (estadosAnteriores[i] == OCUPADO) {
+                poner(clavesAnteriores[i], valoresAnteriores[i]);
+            }
+        }
+    }
+
+    private void inicializar(int capacidad) {
+        claves = new int[capacidad];
+        valores = new int[capacidad];
+        estados = new byte[capacidad];
+        tamanio = 0;
+        usadas = 0;
+    }
+
+    // Potencia de dos con las entradas ocupando a lo sumo la cuarta parte, así después de redimensionar
+    // quedan lugares libres para otras tantas altas antes del siguiente
+    private static int capacidadPara(int entradas) {
+        return Math.max(CAPACIDAD_MINIMA, Integer.highestOneBit(Math.max(entradas, 1) * 4 - 1) << 1);
+    }
+
+    // Los documentos son consecutivos en muchos casos; se mezclan los bits para que no caigan todos juntos
+    private static int mezclar(int clave) {
+        int h = clave * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,149 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.repository.ConteoConceptoDia;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Arma la rotación de un mes por particiones de empleados. Los lugares libres de cada concepto por día se
+// reparten entre las particiones en orden circular, así cada una planifica sola, con su propio
+// EstadoValidacionLote, sin pasarse del tope de empleados por día. Dentro de la partición cada día se
+// recorren los empleados en orden circular, salteando a quien ya tiene una jornada ese día o no pasa las
+// reglas de ValidadorService con lo que lleva acumulado. Un lugar que su partición no puede usar queda libre
+public class PlanificadorRotacion {
+
+    private final ValidadorService validadorService;
+    private final List<ConceptoLaboral> conceptos;
+    private final LocalDate inicio;
+    private final int dias;
+    private final int particiones;
+    // Lugares libres por día y concepto en todo el mes; Integer.MAX_VALUE si el concepto no tiene tope
+    private final int[][] disponibles;
+
+    public PlanificadorRotacion(ValidadorService validadorService, List<ConceptoLaboral> conceptos, LocalDate inicio,
+                                LocalDate fin, int particiones, List<ConteoConceptoDia> conteosExistentes) {
+        this.validadorService = validadorService;
+        this.conceptos = conceptos;
+        this.inicio = inicio;
+        this.dias = (int) ChronoUnit.DAYS.between(inicio, fin) + 1;
+        this.particiones = particiones;
+        this.disponibles = new int[dias][conceptos.size()];
+
+        Map<Integer, Integer> indiceConcepto = new HashMap<>();
+        for (int c = 0; c < conceptos.size(); c++) {
+            indiceConcepto.put(conceptos.get(c).getId(), c);
+            Integer tope = conceptos.get(c).getMaxEmpleadosDia();
+            for (int dia = 0; dia < dias; dia++) {
+                disponibles[dia][c] = tope != null ? tope : Integer.MAX_VALUE;
+            }
+        }
+        for (ConteoConceptoDia conteo : conteosExistentes) {
+            Integer c = indiceConcepto.get(conteo.getConceptoId());
+            int dia = (int) ChronoUnit.DAYS.between(inicio, conteo.getFecha());
+            if (c != null && dia >= 0 && dia < dias && disponibles[dia][c] != Integer.MAX_VALUE) {
+                disponibles[dia][c] = Math.max(0, disponibles[dia][c] - conteo.getCantidad().intValue());
+            }
+        }
+    }
+
+    // Los acumulados y jornadas existentes tienen que ser solo los de los empleados de la partición
+    public List<JornadaRequestDTO> planificar(int particion, List<Empleado> empleados, List<AcumuladoJornada> acumulados,
+                                              List<JornadaLaboral> existentes) {
+        int cantidad = empleados.size();
+        List<JornadaRequestDTO> plan = new ArrayList<>();
+        if (cantidad == 0) {
+            return plan;
+        }
+        EstadoValidacionLote estado = new EstadoValidacionLote(acumulados, existentes, List.of());
+        boolean[][] ocupados = ocupados(empleados, existentes);
+        int[] punteros = new int[conceptos.size()];
+
+        for (int dia = 0; dia < dias; dia++) {
+            LocalDate fecha = inicio.plusDays(dia);
+            for (int c = 0; c < conceptos.size(); c++) {
+                ConceptoLaboral concepto = conceptos.get(c);
+                int lugares = lugares(particion, dia, c);
+                int asignados = 0;
+                for (int intento = 0; intento < cantidad && asignados < lugares; intento++) {
+                    int e = punteros[c];
+                    punteros[c] = (e + 1) % cantidad;
+                    Empleado empleado = empleados.get(e);
+                    if (ocupados[e][dia] || fecha.isBefore(empleado.getFechaIngreso())) {
+                        continue;
+                    }
+                    JornadaRequestDTO jornada = candidata(estado, empleado, fecha, concepto);
+                    if (jornada == null) {
+                        continue;
+                    }
+                    estado.registrar(jornada.toEntity(empleado, concepto));
+                    ocupados[e][dia] = true;
+                    plan.add(jornada);
+                    asignados++;
+                }
+            }
+        }
+        return plan;
+    }
+
+    // Lugares del concepto en el día que le tocan a la partición: el lugar s va a la partición (dia + c + s) % particiones
+    int lugares(int particion, int dia, int c) {
+        int disponible = disponibles[dia][c];
+        if (disponible == Integer.MAX_VALUE) {
+            return disponible;
+        }
+        int primero = Math.floorMod(particion - dia - c, particiones);
+        return primero < disponible ? (disponible - primero - 1) / particiones + 1 : 0;
+    }
+
+    // Para un concepto laborable prueba desde las horas máximas hacia las mínimas y se queda con la primera
+    // cantidad que entra en los topes del día, la semana y el mes
+    private JornadaRequestDTO candidata(EstadoValidacionLote estado, Empleado empleado, LocalDate fecha, ConceptoLaboral concepto) {
+        SnapshotValidacion snapshot = estado.snapshot(empleado.getId(), fecha, concepto.getId());
+        if (!concepto.esLaborable()) {
+            return validadorService.admite(snapshot, concepto, null) ? jornada(empleado, fecha, concepto, null) : null;
+        }
+        if (concepto.getHsMaximo() == null) {
+            return null;
+        }
+        int minimo = concepto.getHsMinimo() != null ? concepto.getHsMinimo() : concepto.getHsMaximo();
+        for (int horas = concepto.getHsMaximo(); horas >= minimo; horas--) {
+            if (validadorService.admite(snapshot, concepto, horas)) {
+                return jornada(empleado, fecha, concepto, horas);
+            }
+        }
+        return null;
+    }
+
+    private boolean[][] ocupados(List<Empleado> empleados, List<JornadaLaboral> existentes) {
+        Map<Integer, Integer> indiceEmpleado = new HashMap<>();
+        for (int e = 0; e < empleados.size(); e++) {
+            indiceEmpleado.put(empleados.get(e).getId(), e);
+        }
+        boolean[][] ocupados = new boolean[empleados.size()][dias];
+        for (JornadaLaboral jornada : existentes) {
+            Integer e = indiceEmpleado.get(jornada.getEmpleado().getId());
+            int dia = (int) ChronoUnit.DAYS.between(inicio, jornada.getFecha());
+            if (e != null && dia >= 0 && dia < dias) {
+                ocupados[e][dia] = true;
+            }
+        }
+        return ocupados;
+    }
+
+    private static JornadaRequestDTO jornada(Empleado empleado, LocalDate fecha, ConceptoLaboral concepto, Integer horas) {
+        JornadaRequestDTO jornada = new JornadaRequestDTO();
+        jornada.setIdEmpleado(empleado.getId());
+        jornada.setIdConcepto(concepto.getId());
+        jornada.setFecha(fecha);
+        jornada.setHorasTrabajadas(horas);
+        return jornada;
+    }
+}
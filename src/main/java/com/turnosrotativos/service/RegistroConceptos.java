@@ -0,0 +1,129 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.repository.ConceptoLaboralRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Copia en memoria de los conceptos laborales, que casi nunca cambian. Se carga al arrancar y, si se
+// invalida, se vuelve a leer de la base en la siguiente consulta. Los conceptos que entrega son copias
+// desconectadas del contexto de persistencia y compartidas entre hilos: no se deben modificar
+@Component
+public class RegistroConceptos {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistroConceptos.class);
+
+    private final ConceptoLaboralRepository conceptoLaboralRepository;
+    private final AtomicLong aciertos = new AtomicLong();
+    private final AtomicLong fallos = new AtomicLong();
+    // Lock en lugar de synchronized: la carga consulta la base, y un hilo virtual bloqueado dentro de un
+    // bloque synchronized queda fijado a su hilo portador
+    private final ReentrantLock cargando = new ReentrantLock();
+    // Cuenta las invalidaciones, para no dejar publicado lo que se leyó de la base antes de un cambio confirmado
+    private final AtomicLong invalidaciones = new AtomicLong();
+    private volatile Map<Integer, ConceptoLaboral> conceptos;
+
+    public RegistroConceptos(ConceptoLaboralRepository conceptoLaboralRepository) {
+        this.conceptoLaboralRepository = conceptoLaboralRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargar() {
+        cargar();
+    }
+
+    public Optional<ConceptoLaboral> obtener(Integer id) {
+        return Optional.ofNullable(conceptosPorId().get(id));
+    }
+
+    public Collection<ConceptoLaboral> todos() {
+        return conceptosPorId().values();
+    }
+
+    public Map<Integer, ConceptoLaboral> conceptosPorId() {
+        Map<Integer, ConceptoLaboral> actuales = conceptos;
+        if (actuales != null) {
+            aciertos.incrementAndGet();
+            return actuales;
+        }
+        fallos.incrementAndGet();
+        return cargar();
+    }
+
+    // Identifica el estado actual de los conceptos para el ETag de /concepto-laboral. Cambia si se agrega,
+    // borra o modifica cualquier concepto, y se calcula sobre la copia en memoria, sin ir a la base
+    public String version() {
+        StringBuilder version = new StringBuilder();
+        for (ConceptoLaboral concepto : conceptosPorId().values()) {
+            version.append(concepto.getId()).append('.').append(concepto.getVersion()).append('-');
+        }
+        return Integer.toHexString(version.toString().hashCode());
+    }
+
+    public void invalidar() {
+        logger.info("Se invalidó el registro de conceptos laborales");
+        invalidaciones.incrementAndGet();
+        conceptos = null;
+    }
+
+    public long getAciertos() {
+        return aciertos.get();
+    }
+
+    public long getFallos() {
+        return fallos.get();
+    }
+
+    private Map<Integer, ConceptoLaboral> cargar() {
+        cargando.lock();
+        try {
+            Map<Integer, ConceptoLaboral> actuales = conceptos;
+            if (actuales != null) {
+                return actuales;
+            }
+            long invalidacionesAntes = invalidaciones.get();
+            Map<Integer, ConceptoLaboral> cargados = new LinkedHashMap<>();
+            conceptoLaboralRepository.findAll().stream()
+                    .sorted(Comparator.comparing(ConceptoLaboral::getId))
+                    .forEach(concepto -> cargados.put(concepto.getId(), copiar(concepto)));
+            actuales = Collections.unmodifiableMap(cargados);
+            // Se publica y después se compara, igual que en RegistroEmpleados: si hubo una invalidación mientras
+            // se leía, lo leído puede ser anterior al cambio y la siguiente consulta vuelve a la base
+            conceptos = actuales;
+            if (invalidaciones.get() != invalidacionesAntes) {
+                conceptos = null;
+                return actuales;
+            }
+            logger.info("Registro de conceptos laborales cargado con {} conceptos", actuales.size());
+            return actuales;
+        } finally {
+            cargando.unlock();
+        }
+    }
+
+    private ConceptoLaboral copiar(ConceptoLaboral concepto) {
+        ConceptoLaboral copia = new ConceptoLaboral();
+        copia.setId(concepto.getId());
+        copia.setNombre(concepto.getNombre());
+        copia.setHsMinimo(concepto.getHsMinimo());
+        copia.setHsMaximo(concepto.getHsMaximo());
+        copia.setLaborable(concepto.getLaborable());
+        copia.setTipo(concepto.getTipo());
+        copia.setMaxEmpleadosDia(concepto.getMaxEmpleadosDia());
+        copia.setMaxSemanal(concepto.getMaxSemanal());
+        copia.setMaxMensual(concepto.getMaxMensual());
+        copia.setVersion(concepto.getVersion());
+        return copia;
+    }
+}
@@ -0,0 +1,118 @@
+package com.turnosrotativos.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.repository.EmpleadoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Caché de empleados por id, acotada en cantidad y en tiempo. Los empleados que entrega son copias
+// desconectadas del contexto de persistencia y compartidas entre hilos: no se deben modificar. No guarda
+// ausencias, así un empleado recién creado se encuentra en la siguiente consulta. EmpleadoListener la
+// invalida cuando se modifica o borra un empleado. Si un documento existe lo responde IndiceIdentidad
+@Component
+public class RegistroEmpleados {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistroEmpleados.class);
+
+    private final EmpleadoRepository empleadoRepository;
+    private final Cache<Integer, Empleado> porId;
+    // Cuenta las invalidaciones, para no guardar lo que se leyó de la base antes de un cambio confirmado
+    private final AtomicLong invalidaciones = new AtomicLong();
+
+    public RegistroEmpleados(EmpleadoRepository empleadoRepository,
+                             @Value("${turnos.empleados.cache.maximo:10000}") long maximo,
+                             @Value("${turnos.empleados.cache.ttl:10m}") Duration ttl) {
+        this.empleadoRepository = empleadoRepository;
+        this.porId = Caffeine.newBuilder().maximumSize(maximo).expireAfterWrite(ttl).recordStats().build();
+    }
+
+    // La lectura se hace fuera de la caché y no con get(id, carga): Caffeine carga dentro de un bloque
+    // synchronized del mapa, y un hilo virtual bloqueado ahí queda fijado a su hilo portador
+    public Optional<Empleado> obtener(Integer id) {
+        Empleado empleado = porId.getIfPresent(id);
+        if (empleado != null) {
+            return Optional.of(empleado);
+        }
+        long invalidacionesAntes = invalidaciones.get();
+        Optional<Empleado> leido = empleadoRepository.findById(Long.valueOf(id)).map(RegistroEmpleados::copiar);
+        leido.ifPresent(copia -> guardar(copia, invalidacionesAntes));
+        return leido;
+    }
+
+    // Solo lo que ya está en memoria, sin ir a la base
+    public Optional<Empleado> enMemoria(Integer id) {
+        return Optional.ofNullable(porId.getIfPresent(id));
+    }
+
+    // Los que faltan se leen en una sola consulta. Los ids que no existen no aparecen en el mapa
+    public Map<Integer, Empleado> obtenerTodos(Collection<Integer> ids) {
+        Map<Integer, Empleado> empleados = new HashMap<>(porId.getAllPresent(ids));
+        List<Long> faltantes = ids.stream()
+                .filter(id -> !empleados.containsKey(id))
+                .map(Long::valueOf)
+                .toList();
+        if (!faltantes.isEmpty()) {
+            long invalidacionesAntes = invalidaciones.get();
+            for (Empleado empleado : empleadoRepository.findAllById(faltantes)) {
+                Empleado copia = copiar(empleado);
+                guardar(copia, invalidacionesAntes);
+                empleados.put(copia.getId(), copia);
+            }
+        }
+        return empleados;
+    }
+
+    public void invalidar(Integer id) {
+        invalidaciones.incrementAndGet();
+        porId.invalidate(id);
+        logger.debug("Se invalidó el empleado con Id: {} en la caché", id);
+    }
+
+    public void invalidar() {
+        invalidaciones.incrementAndGet();
+        porId.invalidateAll();
+        logger.info("Se invalidó la caché de empleados");
+    }
+
+    public long getEmpleados() {
+        return porId.estimatedSize();
+    }
+
+    public CacheStats getEstadisticas() {
+        return porId.stats();
+    }
+
+    // Si hubo una invalidación mientras se leía de la base, lo leído puede ser anterior al cambio y se descarta
+    private void guardar(Empleado copia, long invalidacionesAntes) {
+        porId.put(copia.getId(), copia);
+        if (invalidaciones.get() != invalidacionesAntes) {
+            porId.invalidate(copia.getId());
+        }
+    }
+
+    private static Empleado copiar(Empleado empleado) {
+        Empleado copia = new Empleado();
+        copia.setId(empleado.getId());
+        copia.setNroDocumento(empleado.getNroDocumento());
+        copia.setNombre(empleado.getNombre());
+        copia.setApellido(empleado.getApellido());
+        copia.setEmail(empleado.getEmail());
+        copia.setFechaNacimiento(empleado.getFechaNacimiento());
+        copia.setFechaIngreso(empleado.getFechaIngreso());
+        copia.setFechaCreacion(empleado.getFechaCreacion());
+        copia.setVersion(empleado.getVersion());
+        return copia;
+    }
+}
@@ -0,0 +1,176 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.JornadaLoteResultadoDTO;
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.dto.RotacionGeneradaDTO;
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoConcepto;
+import com.turnosrotativos.repository.AcumuladoJornadaRepository;
+import com.turnosrotativos.repository.EmpleadoRepository;
+import com.turnosrotativos.repository.JornadaLaboralRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+@Service
+public class RotacionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RotacionService.class);
+    private static final int TAMANIO_PARTICION = 256;
+    // Orden en que se prueban los conceptos cada día: después de los turnos normales de la semana van los
+    // días libres, y los turnos extra solo cuando ya no quedan días libres
+    private static final List<TipoConcepto> ORDEN_CONCEPTOS = List.of(TipoConcepto.TURNO_NORMAL, TipoConcepto.DIA_LIBRE,
+            TipoConcepto.TURNO_EXTRA);
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private JornadaLaboralRepository jornadaLaboralRepository;
+
+    @Autowired
+    private AcumuladoJornadaRepository acumuladoJornadaRepository;
+
+    @Autowired
+    private RegistroConceptos registroConceptos;
+
+    @Autowired
+    private ValidadorService validadorService;
+
+    @Autowired
+    private JornadaLoteService jornadaLoteService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Genera y guarda la rotación del mes para todos los empleados, respetando lo que ya esté cargado.
+    // La planificación corre en paralelo por particiones de empleados sobre lo leído sin bloqueos; lo
+    // planificado se guarda con JornadaLoteService en partes de a lo sumo TAMANIO_MAXIMO_LOTE jornadas, cada
+    // una en su transacción, que toma las franjas y las filas en el mismo orden que cualquier alta y vuelve a
+    // validar fila por fila con los datos vigentes. Si una parte falla, las anteriores quedan guardadas y
+    // volver a generar el mes completa lo que falta
+    public RotacionGeneradaDTO generar(YearMonth mes) {
+        long inicioGeneracion = System.nanoTime();
+        LocalDate inicio = mes.atDay(1);
+        LocalDate fin = mes.atEndOfMonth();
+        List<Empleado> empleados = empleadoRepository.findAll().stream()
+                .sorted(Comparator.comparing(Empleado::getId))
+                .toList();
+        if (empleados.isEmpty()) {
+            throw new BadRequestException("No hay empleados para generar la rotación.");
+        }
+        logger.debug("Iniciando generación de la rotación de {} para {} empleados", mes, empleados.size());
+
+        int particiones = (empleados.size() + TAMANIO_PARTICION - 1) / TAMANIO_PARTICION;
+        Map<Integer, Integer> particionPorEmpleado = new HashMap<>();
+        for (int i = 0; i < empleados.size(); i++) {
+            particionPorEmpleado.put(empleados.get(i).getId(), i / TAMANIO_PARTICION);
+        }
+        List<Integer> empleadoIds = empleados.stream().map(Empleado::getId).toList();
+        LocalDate inicioSemana = AcumuladoJornada.inicioSemana(inicio);
+        // El planificador suma lo que planifica sobre copias: los acumulados de la base los actualiza
+        // JornadaLoteService al guardar, y si los tocara también el planificador se contarían dos veces
+        Map<Integer, List<AcumuladoJornada>> acumulados = acumuladoJornadaRepository
+                .buscarTotales(empleadoIds, inicioSemana.isBefore(inicio) ? inicioSemana : inicio, fin)
+                .stream()
+                .map(AcumuladoJornada::copiar)
+                .collect(Collectors.groupingBy(acumulado -> particionPorEmpleado.get(acumulado.getEmpleadoId())));
+        Map<Integer, List<JornadaLaboral>> existentes = jornadaLaboralRepository.findByEmpleadoIdInAndFechaBetween(empleadoIds, inicio, fin)
+                .stream()
+                .collect(Collectors.groupingBy(jornada -> particionPorEmpleado.get(jornada.getEmpleado().getId())));
+
+        PlanificadorRotacion planificador = new PlanificadorRotacion(validadorService, conceptosOrdenados(), inicio, fin,
+                particiones, jornadaLaboralRepository.contarPorFechaYConcepto(inicio, fin));
+        List<JornadaRequestDTO> plan = ForkJoinPool.commonPool().invoke(
+                new PlanificacionParticiones(planificador, empleados, acumulados, existentes, 0, particiones));
+        logger.debug("Rotación de {} planificada con {} jornadas en {} particiones", mes, plan.size(), particiones);
+
+        int creadas = 0;
+        Map<String, Long> porConcepto = new TreeMap<>();
+        Map<Integer, ConceptoLaboral> conceptos = registroConceptos.conceptosPorId();
+        for (int desde = 0; desde < plan.size(); desde += JornadaLoteService.TAMANIO_MAXIMO_LOTE) {
+            List<JornadaRequestDTO> parte = plan.subList(desde, Math.min(desde + JornadaLoteService.TAMANIO_MAXIMO_LOTE, plan.size()));
+            // Con open-in-view el contexto de persistencia es el de toda la solicitud. Se vacía antes de cada
+            // parte para que lea los acumulados de la base con bloqueo y no los que quedaron en memoria
+            entityManager.clear();
+            List<JornadaLoteResultadoDTO> resultados = jornadaLoteService.procesarLote(parte);
+            for (int i = 0; i < resultados.size(); i++) {
+                if (resultados.get(i).getStatus() == 201) {
+                    creadas++;
+                    porConcepto.merge(conceptos.get(parte.get(i).getIdConcepto()).getNombre(), 1L, Long::sum);
+                }
+            }
+        }
+        if (creadas < plan.size()) {
+            // Solo pasa si otra carga tomó los mismos lugares entre la planificación y el guardado
+            logger.warn("Rotación de {}: {} jornadas planificadas quedaron rechazadas al guardarlas", mes, plan.size() - creadas);
+        }
+        long milisegundos = (System.nanoTime() - inicioGeneracion) / 1_000_000;
+        logger.info("Rotación de {} generada: {} jornadas para {} empleados en {} ms", mes, creadas, empleados.size(), milisegundos);
+        return new RotacionGeneradaDTO(mes, empleados.size(), creadas, plan.size() - creadas, porConcepto, milisegundos);
+    }
+
+    private List<ConceptoLaboral> conceptosOrdenados() {
+        return registroConceptos.todos().stream()
+                .sorted(Comparator.comparing((ConceptoLaboral concepto) -> ORDEN_CONCEPTOS.indexOf(concepto.getTipo()))
+                        .thenComparing(ConceptoLaboral::getId))
+                .toList();
+    }
+
+    // Divide el rango de particiones a la mitad hasta llegar a una sola, que se planifica en el hilo del pool
+    private static class PlanificacionParticiones extends RecursiveTask<List<JornadaRequestDTO>> {
+
+        private final PlanificadorRotacion planificador;
+        private final List<Empleado> empleados;
+        private final Map<Integer, List<AcumuladoJornada>> acumulados;
+        private final Map<Integer, List<JornadaLaboral>> existentes;
+        private final int desde;
+        private final int hasta;
+
+        PlanificacionParticiones(PlanificadorRotacion planificador, List<Empleado> empleados,
+                                 Map<Integer, List<AcumuladoJornada>> acumulados, Map<Integer, List<JornadaLaboral>> existentes,
+                                 int desde, int hasta) {
+            this.planificador = planificador;
+            this.empleados = empleados;
+            this.acumulados = acumulados;
+            this.existentes = existentes;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected List<JornadaRequestDTO> compute() {
+            if (hasta - desde == 1) {
+                List<Empleado> particion = empleados.subList(desde * TAMANIO_PARTICION,
+                        Math.min((desde + 1) * TAMANIO_PARTICION, empleados.size()));
+                return planificador.planificar(desde, particion, acumulados.getOrDefault(desde, List.of()),
+                        existentes.getOrDefault(desde, List.of()));
+            }
+            int mitad = (desde + hasta) >>> 1;
+            PlanificacionParticiones izquierda = new PlanificacionParticiones(planificador, empleados, acumulados, existentes, desde, mitad);
+            PlanificacionParticiones derecha = new PlanificacionParticiones(planificador, empleados, acumulados, existentes, mitad, hasta);
+            izquierda.fork();
+            List<JornadaRequestDTO> plan = new ArrayList<>(derecha.compute());
+            plan.addAll(0, izquierda.join());
+            return plan;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoConcepto;
+import java.time.LocalDate;
+import java.util.List;
+
+// Totales que necesitan las reglas de ValidadorService para una nueva jornada
+public class SnapshotValidacion {
+
+    private final int horasDia;
+    private final int horasSemana;
+    private final int horasMes;
+    // Cantidad de jornadas de cada TipoConcepto en la semana y en el mes, indexadas por ordinal
+    private final int[] cantidadesSemana;
+    private final int[] cantidadesMes;
+    private final int empleadosConceptoDia;
+    private final boolean conceptoRegistradoEnDia;
+
+    private SnapshotValidacion(int horasDia, int horasSemana, int horasMes,
+                               int[] cantidadesSemana, int[] cantidadesMes,
+                               int empleadosConceptoDia, boolean conceptoRegistradoEnDia) {
+        this.horasDia = horasDia;
+        this.horasSemana = horasSemana;
+        this.horasMes = horasMes;
+        this.cantidadesSemana = cantidadesSemana;
+        this.cantidadesMes = cantidadesMes;
+        this.empleadosConceptoDia = empleadosConceptoDia;
+        this.conceptoRegistradoEnDia = conceptoRegistradoEnDia;
+    }
+
+    // Semana y mes salen de los acumulados; del día alcanza con las jornadas del empleado en la fecha
+    // y las de cualquier empleado con el mismo concepto en la fecha
+    public static SnapshotValidacion calcular(AcumuladoJornada semana, AcumuladoJornada mes,
+                                              List<JornadaLaboral> jornadasDelDia, Integer empleadoId,
+                                              LocalDate fecha, Integer conceptoId) {
+        int horasDia = 0;
+        int empleadosConceptoDia = 0;
+        boolean conceptoRegistradoEnDia = false;
+
+        for (JornadaLaboral jornada : jornadasDelDia) {
+            if (!jornada.getFecha().equals(fecha)) {
+                continue;
+            }
+            boolean mismoConcepto = conceptoId.equals(jornada.getConceptoLaboral().getId());
+            if (mismoConcepto) {
+                empleadosConceptoDia++;
+            }
+            if (empleadoId.equals(jornada.getEmpleado().getId())) {
+                horasDia += jornada.getHorasTrabajadas() != null ? jornada.getHorasTrabajadas() : 0;
+                conceptoRegistradoEnDia |= mismoConcepto;
+            }
+        }
+        return new SnapshotValidacion(horasDia, semana.getHoras(), mes.getHoras(),
+                cantidades(semana), cantidades(mes), empleadosConceptoDia, conceptoRegistradoEnDia);
+    }
+
+    // Para cuando los totales del día ya están sumados, como en la consulta de disponibilidad o en el
+    // calendario de ocupación
+    public static SnapshotValidacion desdeTotales(int horasDia, AcumuladoJornada semana, AcumuladoJornada mes,
+                                                  int empleadosConceptoDia, boolean conceptoRegistradoEnDia) {
+        return new SnapshotValidacion(horasDia, semana.getHoras(), mes.getHoras(),
+                cantidades(semana), cantidades(mes), empleadosConceptoDia, conceptoRegistradoEnDia);
+    }
+
+    public SnapshotValidacion conEmpleadosConceptoDia(int empleadosConceptoDia) {
+        return new SnapshotValidacion(horasDia, horasSemana, horasMes, cantidadesSemana, cantidadesMes,
+                empleadosConceptoDia, conceptoRegistradoEnDia);
+    }
+
+    private static int[] cantidades(AcumuladoJornada acumulado) {
+        TipoConcepto[] tipos = TipoConcepto.values();
+        int[] cantidades = new int[tipos.length];
+        for (TipoConcepto tipo : tipos) {
+            cantidades[tipo.ordinal()] = acumulado.getCantidad(tipo);
+        }
+        return cantidades;
+    }
+
+    public int getHorasDia() {
+        return horasDia;
+    }
+
+    public int getHorasSemana() {
+        return horasSemana;
+    }
+
+    public int getHorasMes() {
+        return horasMes;
+    }
+
+    public int getCantidadSemana(TipoConcepto tipo) {
+        return cantidadesSemana[tipo.ordinal()];
+    }
+
+    public int getCantidadMes(TipoConcepto tipo) {
+        return cantidadesMes[tipo.ordinal()];
+    }
+
+    public int getEmpleadosConceptoDia() {
+        return empleadosConceptoDia;
+    }
+
+    public boolean isConceptoRegistradoEnDia() {
+        return conceptoRegistradoEnDia;
+    }
+}
@@ -3,35 +3,68 @@ package com.turnosrotativos.service;
 import com.turnosrotativos.dto.JornadaRequestDTO;
 import com.turnosrotativos.exception.BadRequestException;
 import com.turnosrotativos.model.ConceptoLaboral;
-import com.turnosrotativos.model.Empleado;
-import com.turnosrotativos.model.JornadaLaboral;
-import com.turnosrotativos.repository.JornadaLaboralRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.turnosrotativos.model.TipoConcepto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class ValidadorService {
 
-    @Autowired
-    private JornadaLaboralRepository jornadaLaboralRepository;
+    static final int MAX_HORAS_DIA = 14;
+    static final int MAX_HORAS_SEMANA = 52;
+    static final int MAX_HORAS_MES = 190;
+
+    private final Regla horasConcepto;
+    private final Regla horasDiariasYSemanales;
+    private final Regla horasMensuales;
+    private final Regla cupoConcepto;
+    private final Regla empleadosPorConceptoPorDia;
+    private final Regla conceptoDuplicadoPorDia;
+
+    // Cada regla tiene su timer y su contador de rechazos, con el nombre de la regla como tag
+    public ValidadorService(MeterRegistry meterRegistry) {
+        this.horasConcepto = new Regla(meterRegistry, "horas_concepto");
+        this.horasDiariasYSemanales = new Regla(meterRegistry, "horas_diarias_semanales");
+        this.horasMensuales = new Regla(meterRegistry, "horas_mensuales");
+        this.cupoConcepto = new Regla(meterRegistry, "cupo_concepto");
+        this.empleadosPorConceptoPorDia = new Regla(meterRegistry, "empleados_concepto_dia");
+        this.conceptoDuplicadoPorDia = new Regla(meterRegistry, "concepto_duplicado_dia");
+    }
+
+    public void validarJornada(JornadaRequestDTO jornadaRequestDTO, ConceptoLaboral concepto, SnapshotValidacion snapshot) {
+        Integer horasTrabajadas = jornadaRequestDTO.getHorasTrabajadas();
+        horasDiariasYSemanales.aplicar(() -> validarHorasDiariasYSemanales(snapshot, horasTrabajadas));
+        horasMensuales.aplicar(() -> validarHorasMensuales(snapshot, horasTrabajadas));
+        cupoConcepto.aplicar(() -> validarCupoConcepto(snapshot, concepto));
+        empleadosPorConceptoPorDia.aplicar(() -> validarEmpleadosPorConceptoPorDia(snapshot, concepto));
+        conceptoDuplicadoPorDia.aplicar(() -> validarConceptoDuplicadoPorDia(snapshot));
+    }
 
-    public void validarJornada(JornadaRequestDTO jornadaRequestDTO, Empleado empleado, ConceptoLaboral concepto, List<JornadaLaboral> jornadasSemanales, List<JornadaLaboral> jornadasMensuales) {
-        validarHorasDiariasYSemanales(jornadasSemanales, jornadaRequestDTO.getHorasTrabajadas(), jornadaRequestDTO.getFecha());
-        validarHorasMensuales(jornadasMensuales, jornadaRequestDTO.getHorasTrabajadas());
-        validarDiasLibres(jornadasSemanales, jornadasMensuales, concepto, jornadaRequestDTO.getFecha());
-        validarTurnosExtra(jornadasSemanales, concepto);
-        validarTurnosNormales(jornadasSemanales, concepto);
-        validarEmpleadosPorConceptoPorDia(jornadaRequestDTO.getFecha(), jornadaRequestDTO.getIdConcepto());
-        validarConceptoDuplicadoPorDia(empleado.getId(), jornadaRequestDTO.getFecha(), jornadaRequestDTO.getIdConcepto());
+    // Las mismas reglas que validarJornada, sin excepciones ni métricas de rechazo. La usa el generador de
+    // rotaciones para probar candidatos; lo que genera después pasa igual por validarJornada
+    public boolean admite(SnapshotValidacion snapshot, ConceptoLaboral concepto, Integer horasTrabajadas) {
+        return !superaHorasSemana(snapshot, horasTrabajadas)
+                && !superaHorasDia(snapshot, horasTrabajadas)
+                && !superaHorasMes(snapshot, horasTrabajadas)
+                && !superaCupoSemanal(snapshot, concepto)
+                && !superaCupoMensual(snapshot, concepto)
+                && !superaEmpleadosPorConceptoPorDia(snapshot, concepto)
+                && !snapshot.isConceptoRegistradoEnDia();
     }
 
     public void validarHorasTrabajadas(ConceptoLaboral concepto, Integer horasTrabajadas) {
-        if (concepto.getId() != 3 && horasTrabajadas == null) {
+        horasConcepto.aplicar(() -> validarHorasDelConcepto(concepto, horasTrabajadas));
+    }
+
+    private void validarHorasDelConcepto(ConceptoLaboral concepto, Integer horasTrabajadas) {
+        if (concepto.esLaborable() && horasTrabajadas == null) {
             throw new BadRequestException("'hsTrabajadas' es obligatorio para el concepto ingresado.");
         }
-        if (concepto.getId() == 3 && horasTrabajadas != null) {
+        if (!concepto.esLaborable() && horasTrabajadas != null) {
             throw new BadRequestException("El concepto ingresado no requiere el ingreso de 'hsTrabajadas'");
         }
         if (concepto.getHsMinimo() != null && concepto.getHsMaximo() != null &&
@@ -41,101 +74,110 @@ public class ValidadorService {
         }
     }
 
-    public void validarHorasDiariasYSemanales(List<JornadaLaboral> jornadasSemanales, Integer horasTrabajadas, LocalDate fecha) {
-        Integer horasSemanales = calcularHorasSemanales(jornadasSemanales);
-        if (horasSemanales + (horasTrabajadas != null ? horasTrabajadas : 0) > 52) {
+    public void validarHorasDiariasYSemanales(SnapshotValidacion snapshot, Integer horasTrabajadas) {
+        if (superaHorasSemana(snapshot, horasTrabajadas)) {
             throw new BadRequestException("El empleado ingresado supera las 52 horas semanales.");
         }
 
-        Integer horasDiarias = calcularHorasDiarias(jornadasSemanales, fecha);
-        if (horasDiarias + (horasTrabajadas != null ? horasTrabajadas : 0) > 14) {
+        if (superaHorasDia(snapshot, horasTrabajadas)) {
             throw new BadRequestException("Un empleado no puede cargar más de 14 horas trabajadas en un día.");
         }
     }
 
-    public void validarHorasMensuales(List<JornadaLaboral> jornadasMensuales, Integer horasTrabajadas) {
-        Integer horasMensuales = calcularHorasMensuales(jornadasMensuales);
-        if (horasMensuales + (horasTrabajadas != null ? horasTrabajadas : 0) > 190) {
+    public void validarHorasMensuales(SnapshotValidacion snapshot, Integer horasTrabajadas) {
+        if (superaHorasMes(snapshot, horasTrabajadas)) {
             throw new BadRequestException("El empleado ingresado supera las 190 horas mensuales.");
         }
     }
 
-    public void validarDiasLibres(List<JornadaLaboral> jornadasSemanales, List<JornadaLaboral> jornadasMensuales, ConceptoLaboral concepto, LocalDate fecha) {
-        Integer diasLibresSemana = contarDiasLibres(jornadasSemanales);
-        Integer diasLibresMes = contarDiasLibres(jornadasMensuales);
-
-        if (concepto.getNombre().equals("Día Libre")) {
-            if (diasLibresSemana >= 2) {
-                throw new BadRequestException("El empleado no cuenta con más días libres esta semana.");
-            }
-            if (diasLibresMes >= 5) {
-                throw new BadRequestException("El empleado no cuenta con más días libres este mes.");
-            }
+    // Topes semanal y mensual del concepto, contados sobre las jornadas del mismo tipo
+    public void validarCupoConcepto(SnapshotValidacion snapshot, ConceptoLaboral concepto) {
+        TipoConcepto tipo = concepto.getTipo();
+        if (superaCupoSemanal(snapshot, concepto)) {
+            throw new BadRequestException(mensajeCupo(tipo, concepto.getMaxSemanal(), "esta semana"));
+        }
+        if (superaCupoMensual(snapshot, concepto)) {
+            throw new BadRequestException(mensajeCupo(tipo, concepto.getMaxMensual(), "este mes"));
         }
     }
 
-    public void validarTurnosExtra(List<JornadaLaboral> jornadasSemanales, ConceptoLaboral concepto) {
-        Integer turnosExtra = contarTurnosPorConcepto(jornadasSemanales, "Turno Extra");
-        if (concepto.getNombre().equals("Turno Extra") && turnosExtra >= 3) {
-            throw new BadRequestException("El empleado ingresado ya cuenta con 3 turnos extra esta semana.");
+    public void validarEmpleadosPorConceptoPorDia(SnapshotValidacion snapshot, ConceptoLaboral concepto) {
+        if (superaEmpleadosPorConceptoPorDia(snapshot, concepto)) {
+            throw new BadRequestException(String.format(
+                    "Ya existen %d empleados registrados para este concepto en la fecha ingresada.", concepto.getMaxEmpleadosDia()));
         }
     }
 
-    public void validarTurnosNormales(List<JornadaLaboral> jornadasSemanales, ConceptoLaboral concepto) {
-        Integer turnosNormales = contarTurnosPorConcepto(jornadasSemanales, "Turno Normal");
-        if (concepto.getNombre().equals("Turno Normal") && turnosNormales >= 5) {
-            throw new BadRequestException("El empleado ingresado ya cuenta con 5 turnos normales esta semana.");
+    public void validarConceptoDuplicadoPorDia(SnapshotValidacion snapshot) {
+        if (snapshot.isConceptoRegistradoEnDia()) {
+            throw new BadRequestException("El empleado ya tiene registrado una jornada con este concepto en la fecha ingresada.");
         }
     }
 
-    public void validarEmpleadosPorConceptoPorDia(LocalDate fecha, Integer idConcepto) {
-        Integer empleadosPorConcepto = jornadaLaboralRepository.countByFechaAndConceptoLaboralId(fecha, idConcepto);
-        if (empleadosPorConcepto >= 2) {
-            throw new BadRequestException("Ya existen 2 empleados registrados para este concepto en la fecha ingresada.");
-        }
+    private boolean superaHorasDia(SnapshotValidacion snapshot, Integer horasTrabajadas) {
+        return snapshot.getHorasDia() + (horasTrabajadas != null ? horasTrabajadas : 0) > MAX_HORAS_DIA;
     }
 
-    public void validarConceptoDuplicadoPorDia(Integer empleadoId, LocalDate fecha, Integer conceptoId) {
-        boolean existeJornada = jornadaLaboralRepository.existsByEmpleadoIdAndFechaAndConceptoLaboralId(empleadoId, fecha, conceptoId);
-        if (existeJornada) {
-            throw new BadRequestException("El empleado ya tiene registrado una jornada con este concepto en la fecha ingresada.");
-        }
+    private boolean superaHorasSemana(SnapshotValidacion snapshot, Integer horasTrabajadas) {
+        return snapshot.getHorasSemana() + (horasTrabajadas != null ? horasTrabajadas : 0) > MAX_HORAS_SEMANA;
     }
 
-    public void validarRangoFechas(LocalDate fechaDesde, LocalDate fechaHasta) {
-        if (fechaDesde != null && fechaHasta != null && fechaDesde.isAfter(fechaHasta)) {
-            throw new BadRequestException("El campo ‘fechaDesde’ no puede ser mayor que ‘fechaHasta’.");
-        }
+    private boolean superaHorasMes(SnapshotValidacion snapshot, Integer horasTrabajadas) {
+        return snapshot.getHorasMes() + (horasTrabajadas != null ? horasTrabajadas : 0) > MAX_HORAS_MES;
+    }
+
+    private boolean superaCupoSemanal(SnapshotValidacion snapshot, ConceptoLaboral concepto) {
+        return concepto.getMaxSemanal() != null && snapshot.getCantidadSemana(concepto.getTipo()) >= concepto.getMaxSemanal();
     }
 
-    private int calcularHorasSemanales(List<JornadaLaboral> jornadas) {
-        return jornadas.stream()
-                .mapToInt(j -> j.getHorasTrabajadas() != null ? j.getHorasTrabajadas() : 0)
-                .sum();
+    private boolean superaCupoMensual(SnapshotValidacion snapshot, ConceptoLaboral concepto) {
+        return concepto.getMaxMensual() != null && snapshot.getCantidadMes(concepto.getTipo()) >= concepto.getMaxMensual();
     }
 
-    private int calcularHorasDiarias(List<JornadaLaboral> jornadas, LocalDate fecha) {
-        return jornadas.stream()
-                .filter(j -> j.getFecha().equals(fecha))
-                .mapToInt(j -> j.getHorasTrabajadas() != null ? j.getHorasTrabajadas() : 0)
-                .sum();
+    private boolean superaEmpleadosPorConceptoPorDia(SnapshotValidacion snapshot, ConceptoLaboral concepto) {
+        return concepto.getMaxEmpleadosDia() != null && snapshot.getEmpleadosConceptoDia() >= concepto.getMaxEmpleadosDia();
     }
 
-    private int calcularHorasMensuales(List<JornadaLaboral> jornadas) {
-        return jornadas.stream()
-                .mapToInt(j -> j.getHorasTrabajadas() != null ? j.getHorasTrabajadas() : 0)
-                .sum();
+    private String mensajeCupo(TipoConcepto tipo, int maximo, String periodo) {
+        return switch (tipo) {
+            case DIA_LIBRE -> "El empleado no cuenta con más días libres " + periodo + ".";
+            case TURNO_EXTRA -> String.format("El empleado ingresado ya cuenta con %d turnos extra %s.", maximo, periodo);
+            case TURNO_NORMAL -> String.format("El empleado ingresado ya cuenta con %d turnos normales %s.", maximo, periodo);
+        };
     }
 
-    private int contarDiasLibres(List<JornadaLaboral> jornadas) {
-        return (int) jornadas.stream()
-                .filter(j -> j.getConceptoLaboral().getNombre().equals("Día Libre"))
-                .count();
+    public void validarRangoFechas(LocalDate fechaDesde, LocalDate fechaHasta) {
+        if (fechaDesde != null && fechaHasta != null && fechaDesde.isAfter(fechaHasta)) {
+            throw new BadRequestException("El campo ‘fechaDesde’ no puede ser mayor que ‘fechaHasta’.");
+        }
     }
 
-    private int contarTurnosPorConcepto(List<JornadaLaboral> jornadas, String nombreConcepto) {
-        return (int) jornadas.stream()
-                .filter(j -> j.getConceptoLaboral().getNombre().equals(nombreConcepto))
-                .count();
+    private static class Regla {
+
+        private final Timer timer;
+        private final Counter rechazos;
+
+        Regla(MeterRegistry meterRegistry, String nombre) {
+            this.timer = Timer.builder("turnos.validacion.regla")
+                    .description("Tiempo de evaluación de cada regla de validación de jornadas")
+                    .tag("regla", nombre)
+                    .register(meterRegistry);
+            this.rechazos = Counter.builder("turnos.validacion.rechazos")
+                    .description("Jornadas rechazadas por cada regla de validación")
+                    .tag("regla", nombre)
+                    .register(meterRegistry);
+        }
+
+        void aplicar(Runnable validacion) {
+            long inicio = System.nanoTime();
+            try {
+                validacion.run();
+            } catch (BadRequestException e) {
+                rechazos.increment();
+                throw e;
+            } finally {
+                timer.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            }
+        }
     }
 }
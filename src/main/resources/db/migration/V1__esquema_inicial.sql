@@ -0,0 +1,61 @@
+CREATE SEQUENCE jornada_laboral_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE acumulado_jornada_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE empleados (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    nro_documento INTEGER NOT NULL,
+    nombre VARCHAR(255) NOT NULL,
+    apellido VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    fecha_nacimiento DATE NOT NULL,
+    fecha_ingreso DATE NOT NULL,
+    fecha_creacion TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_empleados PRIMARY KEY (id),
+    CONSTRAINT uk_empleados_documento UNIQUE (nro_documento),
+    CONSTRAINT uk_empleados_email UNIQUE (email)
+);
+
+CREATE TABLE concepto_laboral (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    nombre VARCHAR(255) NOT NULL,
+    hs_minimo INTEGER,
+    hs_maximo INTEGER,
+    laborable BOOLEAN,
+    tipo VARCHAR(20) NOT NULL,
+    max_empleados_dia INTEGER,
+    max_semanal INTEGER,
+    max_mensual INTEGER,
+    CONSTRAINT pk_concepto_laboral PRIMARY KEY (id)
+);
+
+CREATE TABLE jornada_laboral (
+    id INTEGER NOT NULL,
+    empleado_id INTEGER NOT NULL,
+    concepto_laboral_id INTEGER NOT NULL,
+    fecha DATE NOT NULL,
+    horas_trabajadas INTEGER,
+    CONSTRAINT pk_jornada_laboral PRIMARY KEY (id),
+    -- Un empleado no puede tener dos jornadas del mismo concepto en el mismo día. Va antes de las claves
+    -- foráneas para que la de empleado reutilice este índice, que además sirve a las búsquedas por empleado
+    -- y rango de fechas (findByEmpleadoIdInAndFechaBetween, findDelDiaParaValidacion)
+    CONSTRAINT uk_jornada_laboral_empleado_fecha_concepto UNIQUE (empleado_id, fecha, concepto_laboral_id),
+    CONSTRAINT fk_jornada_laboral_empleado FOREIGN KEY (empleado_id) REFERENCES empleados (id),
+    CONSTRAINT fk_jornada_laboral_concepto FOREIGN KEY (concepto_laboral_id) REFERENCES concepto_laboral (id)
+);
+
+-- Conteos por concepto y día (contarPorFechaYConcepto, findDelDiaParaValidacion) y rangos de fechas
+-- del listado y los resúmenes
+CREATE INDEX ix_jornada_laboral_fecha_concepto ON jornada_laboral (fecha, concepto_laboral_id);
+
+CREATE TABLE acumulado_jornada (
+    id INTEGER NOT NULL,
+    empleado_id INTEGER NOT NULL,
+    tipo_periodo VARCHAR(10) NOT NULL,
+    inicio_periodo DATE NOT NULL,
+    horas INTEGER NOT NULL,
+    dias_libres INTEGER NOT NULL,
+    turnos_extra INTEGER NOT NULL,
+    turnos_normales INTEGER NOT NULL,
+    CONSTRAINT pk_acumulado_jornada PRIMARY KEY (id),
+    CONSTRAINT uk_acumulado_jornada_periodo UNIQUE (empleado_id, tipo_periodo, inicio_periodo)
+);
@@ -0,0 +1,6 @@
+INSERT INTO concepto_laboral(id, hs_maximo, hs_minimo, laborable, nombre, tipo, max_empleados_dia, max_semanal, max_mensual) VALUES (1, 8, 6, true, 'Turno Normal', 'TURNO_NORMAL', 2, 5, null);
+INSERT INTO concepto_laboral(id, hs_maximo, hs_minimo, laborable, nombre, tipo, max_empleados_dia, max_semanal, max_mensual) VALUES (2, 6, 2, true, 'Turno Extra', 'TURNO_EXTRA', 2, 3, null);
+INSERT INTO concepto_laboral(id, hs_maximo, hs_minimo, laborable, nombre, tipo, max_empleados_dia, max_semanal, max_mensual) VALUES (3, null, null, false, 'Día Libre', 'DIA_LIBRE', 2, 2, 5);
+
+-- Los ids se insertaron a mano, la identidad sigue desde el siguiente
+ALTER TABLE concepto_laboral ALTER COLUMN id RESTART WITH 4;
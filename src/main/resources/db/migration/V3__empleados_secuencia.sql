@@ -0,0 +1,4 @@
+-- Los ids de empleados pasan a salir de una secuencia con pooled optimizer, como los de jornadas, para
+-- que Hibernate pueda agrupar en batch los inserts del alta masiva. Arranca después del último id usado
+CREATE SEQUENCE empleados_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE empleados_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM empleados);
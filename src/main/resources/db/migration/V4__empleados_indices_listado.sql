@@ -0,0 +1,4 @@
+-- Índices para el listado paginado de empleados. El filtro por prefijo de apellido y el orden por apellido
+-- usan el primero; el id al final sirve de desempate para que el orden entre páginas sea estable
+CREATE INDEX ix_empleados_apellido ON empleados (apellido, nombre, id);
+CREATE INDEX ix_empleados_fecha_ingreso ON empleados (fecha_ingreso, id);
@@ -0,0 +1,3 @@
+-- Versión para bloqueo optimista y ETags. Las filas existentes arrancan en 0
+ALTER TABLE empleados ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE concepto_laboral ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
@@ -0,0 +1,75 @@
+package com.turnosrotativos;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.repository.EmpleadoRepository;
+import com.turnosrotativos.service.EmpleadoService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Levanta la aplicación con el perfil prod sobre una base H2 en archivo, la reinicia y verifica que los
+// datos persistan y que un esquema que no coincide con las entidades impida arrancar
+class PerfilProduccionTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void testLosDatosSobrevivenAUnReinicio() {
+        String url = "jdbc:h2:file:" + directorio.resolve("turnos");
+        int migraciones;
+        try (ConfigurableApplicationContext contexto = iniciar(url)) {
+            migraciones = contarMigraciones(contexto);
+            HikariDataSource dataSource = contexto.getBean(HikariDataSource.class);
+            assertEquals(10, dataSource.getMaximumPoolSize());
+            assertFalse(dataSource.isAutoCommit());
+            contexto.getBean(EmpleadoService.class).crearEmpleado(new EmpleadoDTO(null, "Persistente", "Prueba",
+                    "persistente@test.com", 43000000, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1)));
+        }
+
+        try (ConfigurableApplicationContext contexto = iniciar(url)) {
+            assertEquals(1, contexto.getBean(EmpleadoRepository.class).count());
+            assertEquals(migraciones, contarMigraciones(contexto));
+        }
+    }
+
+    @Test
+    void testNoArrancaSiElEsquemaNoCoincide() throws Exception {
+        String url = "jdbc:h2:file:" + directorio.resolve("turnos");
+        iniciar(url).close();
+        try (Connection conexion = DriverManager.getConnection(url, "sa", "")) {
+            conexion.createStatement().execute("ALTER TABLE jornada_laboral DROP COLUMN horas_trabajadas");
+        }
+
+        Exception exception = assertThrows(Exception.class, () -> iniciar(url).close());
+        assertTrue(causas(exception).contains("horas_trabajadas"));
+    }
+
+    private ConfigurableApplicationContext iniciar(String url) {
+        return new SpringApplicationBuilder(TurnosRotativosApplication.class)
+                .profiles("prod")
+                .run("--spring.datasource.url=" + url, "--server.port=0");
+    }
+
+    private int contarMigraciones(ConfigurableApplicationContext contexto) {
+        return contexto.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\"", Integer.class);
+    }
+
+    private String causas(Throwable throwable) {
+        StringBuilder mensajes = new StringBuilder();
+        for (Throwable causa = throwable; causa != null; causa = causa.getCause()) {
+            mensajes.append(causa.getMessage()).append('\n');
+        }
+        return mensajes.toString();
+    }
+}
@@ -0,0 +1,126 @@
+package com.turnosrotativos.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Compara el alta de empleados de a uno con POST /empleado contra el alta en lotes con POST /empleado/batch.
+// Cada modo usa documentos y emails distintos, así las dos corridas trabajan sobre la misma tabla sin chocar
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=${carga.url:jdbc:h2:mem:carga-empleados}",
+        "logging.level.com.turnosrotativos.carga=INFO"
+})
+class CargaEmpleadosTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CargaEmpleadosTest.class);
+    private static final int CALENTAMIENTO = 200;
+
+    @LocalServerPort
+    private int puerto;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${carga.altas:5000}")
+    private int cantidadAltas;
+
+    @Value("${carga.lote:500}")
+    private int tamanioLote;
+
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @Test
+    void testAltaSecuencialContraLote() throws Exception {
+        // Calentamiento de los dos caminos, fuera de la medición
+        altaSecuencial(1_000_000, CALENTAMIENTO);
+        altaEnLotes(1_100_000, CALENTAMIENTO);
+
+        long secuencial = altaSecuencial(0, cantidadAltas);
+        long lotes = altaEnLotes(cantidadAltas, cantidadAltas);
+
+        Map<String, Object> informe = new LinkedHashMap<>();
+        informe.put("altas", cantidadAltas);
+        informe.put("tamanioLote", tamanioLote);
+        informe.put("secuencial", resultado(secuencial));
+        informe.put("lotes", resultado(lotes));
+        logger.info("Alta de {} empleados: secuencial {} ms ({} altas/s), lotes de {} {} ms ({} altas/s)",
+                cantidadAltas, secuencial / 1_000_000, String.format("%.0f", porSegundo(secuencial)),
+                tamanioLote, lotes / 1_000_000, String.format("%.0f", porSegundo(lotes)));
+
+        Path archivo = Path.of("target", "carga-empleados.json");
+        Files.createDirectories(archivo.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(archivo.toFile(), informe);
+        logger.info("Resultados guardados en {}", archivo.toAbsolutePath());
+    }
+
+    private long altaSecuencial(int desde, int cantidad) throws Exception {
+        long inicio = System.nanoTime();
+        for (int i = desde; i < desde + cantidad; i++) {
+            HttpResponse<String> respuesta = enviar(post("/empleado", GeneradorRotaciones.empleadoJson(i)));
+            assertEquals(201, respuesta.statusCode(), respuesta.body());
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    private long altaEnLotes(int desde, int cantidad) throws Exception {
+        long inicio = System.nanoTime();
+        for (int i = desde; i < desde + cantidad; i += tamanioLote) {
+            List<String> lote = new ArrayList<>();
+            for (int j = i; j < Math.min(i + tamanioLote, desde + cantidad); j++) {
+                lote.add(GeneradorRotaciones.empleadoJson(j));
+            }
+            HttpResponse<String> respuesta = enviar(post("/empleado/batch", "[" + String.join(",", lote) + "]"));
+            assertEquals(200, respuesta.statusCode(), respuesta.body());
+            for (JsonNode resultado : objectMapper.readTree(respuesta.body())) {
+                assertEquals(201, resultado.get("status").asInt(), resultado.toString());
+            }
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    private Map<String, Object> resultado(long nanos) {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("milisegundos", nanos / 1_000_000);
+        resultado.put("altasPorSegundo", porSegundo(nanos));
+        return resultado;
+    }
+
+    private double porSegundo(long nanos) {
+        return cantidadAltas / (nanos / 1_000_000_000.0);
+    }
+
+    private HttpResponse<String> enviar(HttpRequest request) throws Exception {
+        return cliente.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest post(String ruta, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + ruta))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.turnosrotativos.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Prueba de carga de punta a punta: levanta la aplicación en un puerto aleatorio, carga N empleados con
+// M meses de rotaciones y corre una mezcla de altas y consultas con varios hilos. Informa p50/p95/p99 y
+// solicitudes por segundo de cada endpoint. No corre con mvn test, ver la sección de carga del README
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=${carga.url:jdbc:h2:mem:carga}",
+        "logging.level.com.turnosrotativos.carga=INFO"
+})
+class CargaJornadasTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CargaJornadasTest.class);
+    private static final LocalDate INICIO = LocalDate.of(2030, 1, 1);
+    private static final int TAMANIO_LOTE_CARGA = 1000;
+
+    @LocalServerPort
+    private int puerto;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${carga.empleados:200}")
+    private int cantidadEmpleados;
+
+    @Value("${carga.meses:6}")
+    private int meses;
+
+    @Value("${carga.hilos:16}")
+    private int hilos;
+
+    @Value("${carga.calentamiento:10}")
+    private int segundosCalentamiento;
+
+    @Value("${carga.duracion:30}")
+    private int segundosMedicion;
+
+    // Proporción de altas de jornadas, el resto se reparte entre listados y resúmenes
+    @Value("${carga.escrituras:0.2}")
+    private double proporcionEscrituras;
+
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final ConcurrentLinkedQueue<GeneradorRotaciones.Jornada> pendientes = new ConcurrentLinkedQueue<>();
+    private GeneradorRotaciones generador;
+    private Integer[] empleadoIds;
+
+    @Test
+    void testCargaMixtaDeJornadas() throws Exception {
+        long inicioCarga = System.nanoTime();
+        cargarEmpleados();
+        int jornadasCargadas = cargarJornadas();
+        logger.info("Datos iniciales: {} empleados y {} jornadas en {} meses, cargados en {} s",
+                cantidadEmpleados, jornadasCargadas, meses, segundos(System.nanoTime() - inicioCarga));
+
+        ejecutar(new RegistroLatencias(), segundosCalentamiento);
+        RegistroLatencias registro = new RegistroLatencias();
+        ejecutar(registro, segundosMedicion);
+
+        List<RegistroLatencias.Resultado> resultados = registro.resultados(segundosMedicion);
+        informar(resultados);
+        for (RegistroLatencias.Resultado resultado : resultados) {
+            assertEquals(0, resultado.errores(), "Respuestas con error en " + resultado.endpoint());
+        }
+    }
+
+    private void cargarEmpleados() throws Exception {
+        empleadoIds = new Integer[cantidadEmpleados];
+        for (int desde = 0; desde < cantidadEmpleados; desde += TAMANIO_LOTE_CARGA) {
+            List<String> lote = new ArrayList<>();
+            for (int i = desde; i < Math.min(desde + TAMANIO_LOTE_CARGA, cantidadEmpleados); i++) {
+                lote.add(GeneradorRotaciones.empleadoJson(i));
+            }
+            HttpResponse<String> respuesta = enviar(post("/empleado/batch", "[" + String.join(",", lote) + "]"));
+            assertEquals(200, respuesta.statusCode(), respuesta.body());
+            for (JsonNode resultado : objectMapper.readTree(respuesta.body())) {
+                assertEquals(201, resultado.get("status").asInt(), resultado.toString());
+                empleadoIds[desde + resultado.get("indice").asInt()] = resultado.get("empleado").get("id").asInt();
+            }
+        }
+    }
+
+    private int cargarJornadas() throws Exception {
+        generador = new GeneradorRotaciones(cantidadEmpleados, INICIO);
+        List<GeneradorRotaciones.Jornada> jornadas = generador.hasta(INICIO.plusMonths(meses));
+        for (int desde = 0; desde < jornadas.size(); desde += TAMANIO_LOTE_CARGA) {
+            List<String> lote = new ArrayList<>();
+            for (GeneradorRotaciones.Jornada jornada : jornadas.subList(desde, Math.min(desde + TAMANIO_LOTE_CARGA, jornadas.size()))) {
+                lote.add(jornada.json(empleadoIds[jornada.indiceEmpleado()]));
+            }
+            HttpResponse<String> respuesta = enviar(post("/jornada/batch", "[" + String.join(",", lote) + "]"));
+            assertEquals(200, respuesta.statusCode(), respuesta.body());
+            for (JsonNode resultado : objectMapper.readTree(respuesta.body())) {
+                assertEquals(201, resultado.get("status").asInt(), resultado.toString());
+            }
+        }
+        return jornadas.size();
+    }
+
+    private void ejecutar(RegistroLatencias registro, int segundos) throws Exception {
+        long fin = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        // Cada cliente es un hilo virtual, así se pueden simular miles de clientes concurrentes
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int i = 0; i < hilos; i++) {
+                tareas.add(executor.submit(() -> {
+                    while (System.nanoTime() < fin) {
+                        operacion(registro);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void operacion(RegistroLatencias registro) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double sorteo = random.nextDouble();
+        if (sorteo < proporcionEscrituras) {
+            GeneradorRotaciones.Jornada jornada = siguienteJornada();
+            medir(registro, "POST /jornada", post("/jornada", jornada.json(empleadoIds[jornada.indiceEmpleado()])));
+            return;
+        }
+        LocalDate inicioMes = INICIO.plusMonths(random.nextInt(meses));
+        String rango = "fechaDesde=" + inicioMes + "&fechaHasta=" + inicioMes.plusMonths(1).minusDays(1);
+        if (sorteo < proporcionEscrituras + (1 - proporcionEscrituras) * 0.7) {
+            int documento = GeneradorRotaciones.documento(random.nextInt(cantidadEmpleados));
+            medir(registro, "GET /jornada", get("/jornada?nroDocumento=" + documento + "&" + rango));
+        } else {
+            medir(registro, "GET /jornada/resumen", get("/jornada/resumen?agrupacion=SEMANA&" + rango));
+        }
+    }
+
+    // Las altas siguen la rotación a partir del último día cargado, así son válidas y no se rechazan por topes
+    private GeneradorRotaciones.Jornada siguienteJornada() {
+        GeneradorRotaciones.Jornada jornada;
+        while ((jornada = pendientes.poll()) == null) {
+            pendientes.addAll(generador.siguienteDia());
+        }
+        return jornada;
+    }
+
+    private void medir(RegistroLatencias registro, String endpoint, HttpRequest request) {
+        long inicio = System.nanoTime();
+        int status;
+        try {
+            status = cliente.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            status = -1;
+        }
+        registro.registrar(endpoint, System.nanoTime() - inicio, status);
+    }
+
+    private void informar(List<RegistroLatencias.Resultado> resultados) throws Exception {
+        StringBuilder tabla = new StringBuilder(String.format("%n%-22s %10s %8s %8s %8s %10s %9s %9s %9s %9s",
+                "Endpoint", "Solicitudes", "2xx", "4xx", "Errores", "Sol/s", "p50 ms", "p95 ms", "p99 ms", "Max ms"));
+        for (RegistroLatencias.Resultado r : resultados) {
+            tabla.append(String.format("%n%-22s %10d %8d %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f",
+                    r.endpoint(), r.solicitudes(), r.exitosas(), r.rechazadas(), r.errores(),
+                    r.solicitudesPorSegundo(), r.p50(), r.p95(), r.p99(), r.maximo()));
+        }
+        logger.info("Resultados con {} hilos durante {} s:{}", hilos, segundosMedicion, tabla);
+
+        Map<String, Object> informe = new LinkedHashMap<>();
+        informe.put("empleados", cantidadEmpleados);
+        informe.put("meses", meses);
+        informe.put("hilos", hilos);
+        informe.put("segundos", segundosMedicion);
+        informe.put("proporcionEscrituras", proporcionEscrituras);
+        informe.put("resultados", resultados);
+        Path archivo = Path.of("target", "carga-resultados.json");
+        Files.createDirectories(archivo.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(archivo.toFile(), informe);
+        logger.info("Resultados guardados en {}", archivo.toAbsolutePath());
+    }
+
+    private HttpResponse<String> enviar(HttpRequest request) throws Exception {
+        return cliente.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest post(String ruta, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + ruta))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest get(String ruta) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + ruta)).GET().build();
+    }
+
+    private static String segundos(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000_000.0);
+    }
+}
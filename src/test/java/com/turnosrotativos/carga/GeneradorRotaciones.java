@@ -0,0 +1,120 @@
+package com.turnosrotativos.carga;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Genera rotaciones válidas día por día: en cada fecha reparte los cupos de cada concepto entre los
+// empleados en orden circular, salteando a quien ya trabaja ese día o superaría algún tope semanal o mensual.
+// Los topes son los de V2__conceptos_laborales.sql y las reglas de ValidadorService
+class GeneradorRotaciones {
+
+    private static final int MAX_EMPLEADOS_DIA = 2;
+    private static final int MAX_HORAS_SEMANA = 52;
+    private static final int MAX_HORAS_MES = 190;
+
+    private static final Turno[] TURNOS = {
+            new Turno(1, 8, 5, Integer.MAX_VALUE),
+            new Turno(2, 4, 3, Integer.MAX_VALUE),
+            new Turno(3, null, 2, 5)
+    };
+
+    private final int cantidadEmpleados;
+    private final int[] punteros = new int[TURNOS.length];
+    private final int[] horasSemana;
+    private final int[] horasMes;
+    private final int[][] cantidadesSemana;
+    private final int[][] cantidadesMes;
+    private LocalDate fecha;
+
+    GeneradorRotaciones(int cantidadEmpleados, LocalDate inicio) {
+        this.cantidadEmpleados = cantidadEmpleados;
+        this.horasSemana = new int[cantidadEmpleados];
+        this.horasMes = new int[cantidadEmpleados];
+        this.cantidadesSemana = new int[cantidadEmpleados][TURNOS.length];
+        this.cantidadesMes = new int[cantidadEmpleados][TURNOS.length];
+        this.fecha = inicio;
+    }
+
+    static String empleadoJson(int indice) {
+        return String.format("{\"nombre\":\"Carga\",\"apellido\":\"Prueba\",\"email\":\"carga%d@carga.test\","
+                + "\"nroDocumento\":%d,\"fechaNacimiento\":\"1990-01-01\",\"fechaIngreso\":\"2020-01-01\"}",
+                indice, documento(indice));
+    }
+
+    static int documento(int indice) {
+        return 30000000 + indice;
+    }
+
+    // Todas las jornadas desde la fecha actual del generador hasta la fecha indicada, sin incluirla
+    synchronized List<Jornada> hasta(LocalDate fin) {
+        List<Jornada> jornadas = new ArrayList<>();
+        while (fecha.isBefore(fin)) {
+            jornadas.addAll(siguienteDia());
+        }
+        return jornadas;
+    }
+
+    synchronized List<Jornada> siguienteDia() {
+        if (fecha.getDayOfWeek() == DayOfWeek.MONDAY) {
+            reiniciar(horasSemana, cantidadesSemana);
+        }
+        if (fecha.getDayOfMonth() == 1) {
+            reiniciar(horasMes, cantidadesMes);
+        }
+        List<Jornada> jornadas = new ArrayList<>();
+        boolean[] ocupados = new boolean[cantidadEmpleados];
+        for (int t = 0; t < TURNOS.length; t++) {
+            Turno turno = TURNOS[t];
+            int asignados = 0;
+            for (int intento = 0; intento < cantidadEmpleados && asignados < MAX_EMPLEADOS_DIA; intento++) {
+                int empleado = punteros[t];
+                punteros[t] = (punteros[t] + 1) % cantidadEmpleados;
+                if (ocupados[empleado] || !admite(empleado, t, turno)) {
+                    continue;
+                }
+                ocupados[empleado] = true;
+                registrar(empleado, t, turno);
+                jornadas.add(new Jornada(empleado, fecha, turno.conceptoId(), turno.horas()));
+                asignados++;
+            }
+        }
+        fecha = fecha.plusDays(1);
+        return jornadas;
+    }
+
+    private boolean admite(int empleado, int t, Turno turno) {
+        int horas = turno.horas() != null ? turno.horas() : 0;
+        return horasSemana[empleado] + horas <= MAX_HORAS_SEMANA
+                && horasMes[empleado] + horas <= MAX_HORAS_MES
+                && cantidadesSemana[empleado][t] < turno.maxSemanal()
+                && cantidadesMes[empleado][t] < turno.maxMensual();
+    }
+
+    private void registrar(int empleado, int t, Turno turno) {
+        int horas = turno.horas() != null ? turno.horas() : 0;
+        horasSemana[empleado] += horas;
+        horasMes[empleado] += horas;
+        cantidadesSemana[empleado][t]++;
+        cantidadesMes[empleado][t]++;
+    }
+
+    private void reiniciar(int[] horas, int[][] cantidades) {
+        for (int i = 0; i < cantidadEmpleados; i++) {
+            horas[i] = 0;
+            cantidades[i] = new int[TURNOS.length];
+        }
+    }
+
+    private record Turno(int conceptoId, Integer horas, int maxSemanal, int maxMensual) {
+    }
+
+    record Jornada(int indiceEmpleado, LocalDate fecha, int conceptoId, Integer horas) {
+
+        String json(Integer idEmpleado) {
+            return String.format("{\"idEmpleado\":%d,\"idConcepto\":%d,\"fecha\":\"%s\",\"horasTrabajadas\":%s}",
+                    idEmpleado, conceptoId, fecha, horas);
+        }
+    }
+}
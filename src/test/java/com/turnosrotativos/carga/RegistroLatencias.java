@@ -0,0 +1,68 @@
+package com.turnosrotativos.carga;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Latencias y respuestas por endpoint durante la prueba de carga
+class RegistroLatencias {
+
+    private final Map<String, Muestras> muestrasPorEndpoint = new ConcurrentHashMap<>();
+
+    void registrar(String endpoint, long nanos, int status) {
+        muestrasPorEndpoint.computeIfAbsent(endpoint, clave -> new Muestras()).agregar(nanos, status);
+    }
+
+    List<Resultado> resultados(double segundos) {
+        List<Resultado> resultados = new ArrayList<>();
+        muestrasPorEndpoint.forEach((endpoint, muestras) -> resultados.add(muestras.resultado(endpoint, segundos)));
+        resultados.sort((a, b) -> a.endpoint().compareTo(b.endpoint()));
+        return resultados;
+    }
+
+    private static class Muestras {
+
+        private long[] nanos = new long[1024];
+        private int cantidad;
+        private int exitosas;
+        private int rechazadas;
+        private int errores;
+
+        synchronized void agregar(long latencia, int status) {
+            if (cantidad == nanos.length) {
+                nanos = Arrays.copyOf(nanos, cantidad * 2);
+            }
+            nanos[cantidad++] = latencia;
+            if (status >= 200 && status < 300) {
+                exitosas++;
+            } else if (status >= 400 && status < 500) {
+                rechazadas++;
+            } else {
+                errores++;
+            }
+        }
+
+        synchronized Resultado resultado(String endpoint, double segundos) {
+            long[] ordenadas = Arrays.copyOf(nanos, cantidad);
+            Arrays.sort(ordenadas);
+            return new Resultado(endpoint, cantidad, exitosas, rechazadas, errores, cantidad / segundos,
+                    milisegundos(ordenadas, 0.50), milisegundos(ordenadas, 0.95), milisegundos(ordenadas, 0.99),
+                    cantidad == 0 ? 0 : ordenadas[cantidad - 1] / 1_000_000.0);
+        }
+
+        // Percentil por el método del rango más cercano
+        private static double milisegundos(long[] ordenadas, double percentil) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+            return ordenadas[Math.max(indice, 0)] / 1_000_000.0;
+        }
+    }
+
+    record Resultado(String endpoint, int solicitudes, int exitosas, int rechazadas, int errores,
+                     double solicitudesPorSegundo, double p50, double p95, double p99, double maximo) {
+    }
+}
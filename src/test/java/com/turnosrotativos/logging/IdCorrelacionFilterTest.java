@@ -0,0 +1,78 @@
+package com.turnosrotativos.logging;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.MDC;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+class IdCorrelacionFilterTest {
+
+    private final IdCorrelacionFilter filter = new IdCorrelacionFilter();
+
+    @Test
+    void testUsaElIdRecibidoYLoDejaEnElMdcDuranteLaSolicitud() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/jornada");
+        request.addHeader(IdCorrelacionFilter.HEADER_ID_CORRELACION, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> idEnMdc = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> idEnMdc.set(MDC.get(IdCorrelacionFilter.MDC_ID_CORRELACION)));
+
+        assertEquals("abc-123", idEnMdc.get());
+        assertEquals("abc-123", response.getHeader(IdCorrelacionFilter.HEADER_ID_CORRELACION));
+        assertNull(MDC.get(IdCorrelacionFilter.MDC_ID_CORRELACION));
+    }
+
+    @Test
+    void testGeneraUnIdNuevoSiElRecibidoNoEsValido() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/jornada");
+        request.addHeader(IdCorrelacionFilter.HEADER_ID_CORRELACION, "id con espacios\ny saltos");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> { });
+
+        String idCorrelacion = response.getHeader(IdCorrelacionFilter.HEADER_ID_CORRELACION);
+        assertNotNull(idCorrelacion);
+        assertEquals(36, idCorrelacion.length());
+    }
+
+    @Test
+    void testEnStreamingElResumenSeEscribeAlTerminarElDespachoAsincronico(CapturedOutput salida) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/jornada/export");
+        request.setAsyncSupported(true);
+        request.addHeader(IdCorrelacionFilter.HEADER_ID_CORRELACION, "export-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        assertFalse(salida.getOut().contains("GET /jornada/export ->"));
+
+        // El hilo que escribe el cuerpo recibe el id de la solicitud
+        AtomicReference<String> idAlEscribir = new AtomicReference<>();
+        IdCorrelacionAsincronico interceptor = new IdCorrelacionAsincronico();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        interceptor.preProcess(webRequest, () -> null);
+        idAlEscribir.set(MDC.get(IdCorrelacionFilter.MDC_ID_CORRELACION));
+        interceptor.postProcess(webRequest, () -> null, null);
+        assertEquals("export-1", idAlEscribir.get());
+        assertNull(MDC.get(IdCorrelacionFilter.MDC_ID_CORRELACION));
+
+        request.setAsyncStarted(false);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        response.setStatus(500);
+        AtomicReference<String> idEnDespacho = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> idEnDespacho.set(MDC.get(IdCorrelacionFilter.MDC_ID_CORRELACION)));
+
+        assertEquals("export-1", idEnDespacho.get());
+        assertTrue(salida.getOut().contains("GET /jornada/export -> 500"));
+        assertEquals(1, salida.getOut().split("GET /jornada/export ->", -1).length - 1);
+    }
+}
@@ -0,0 +1,87 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoConcepto;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.repository.AcumuladoJornadaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AcumuladoJornadaServiceTest {
+
+    @Mock
+    private AcumuladoJornadaRepository acumuladoJornadaRepository;
+
+    @InjectMocks
+    private AcumuladoJornadaService acumuladoJornadaService;
+
+    private LocalDate fecha;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        fecha = LocalDate.of(2024, 5, 1);
+    }
+
+    @Test
+    void testObtenerParaValidacionExistentes() {
+        AcumuladoJornada semana = new AcumuladoJornada(1, TipoPeriodo.SEMANA, LocalDate.of(2024, 4, 29));
+        AcumuladoJornada mes = new AcumuladoJornada(1, TipoPeriodo.MES, LocalDate.of(2024, 5, 1));
+        when(acumuladoJornadaRepository.findByEmpleadoIdAndInicioPeriodoIn(1, List.of(LocalDate.of(2024, 4, 29), LocalDate.of(2024, 5, 1))))
+                .thenReturn(List.of(mes, semana));
+
+        AcumuladoJornadaService.Acumulados acumulados = acumuladoJornadaService.obtenerParaValidacion(1, fecha);
+
+        assertSame(semana, acumulados.semana());
+        assertSame(mes, acumulados.mes());
+    }
+
+    @Test
+    void testObtenerParaValidacionSinAcumulados() {
+        when(acumuladoJornadaRepository.findByEmpleadoIdAndInicioPeriodoIn(eq(1), anyCollection())).thenReturn(Collections.emptyList());
+
+        AcumuladoJornadaService.Acumulados acumulados = acumuladoJornadaService.obtenerParaValidacion(1, fecha);
+
+        assertEquals(TipoPeriodo.SEMANA, acumulados.semana().getTipoPeriodo());
+        assertEquals(LocalDate.of(2024, 4, 29), acumulados.semana().getInicioPeriodo());
+        assertEquals(LocalDate.of(2024, 5, 1), acumulados.mes().getInicioPeriodo());
+        assertEquals(0, acumulados.semana().getHoras());
+    }
+
+    @Test
+    void testRegistrarSumaYGuarda() {
+        AcumuladoJornadaService.Acumulados acumulados = new AcumuladoJornadaService.Acumulados(
+                new AcumuladoJornada(1, TipoPeriodo.SEMANA, LocalDate.of(2024, 4, 29)),
+                new AcumuladoJornada(1, TipoPeriodo.MES, LocalDate.of(2024, 5, 1)));
+        ConceptoLaboral turnoExtra = new ConceptoLaboral();
+        turnoExtra.setId(2);
+        turnoExtra.setNombre("Turno Extra");
+        turnoExtra.setTipo(TipoConcepto.TURNO_EXTRA);
+        Empleado empleado = new Empleado();
+        empleado.setId(1);
+        JornadaLaboral jornada = new JornadaLaboral();
+        jornada.setEmpleado(empleado);
+        jornada.setConceptoLaboral(turnoExtra);
+        jornada.setFecha(fecha);
+        jornada.setHorasTrabajadas(4);
+
+        acumuladoJornadaService.registrar(acumulados, jornada);
+
+        assertEquals(4, acumulados.semana().getHoras());
+        assertEquals(1, acumulados.semana().getTurnosExtra());
+        assertEquals(4, acumulados.mes().getHoras());
+        verify(acumuladoJornadaRepository).saveAll(List.of(acumulados.semana(), acumulados.mes()));
+    }
+}
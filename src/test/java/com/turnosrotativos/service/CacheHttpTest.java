@@ -0,0 +1,122 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.repository.EmpleadoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ETags y GET condicional sobre empleados y conceptos, y bloqueo optimista de las actualizaciones
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:etag",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class CacheHttpTest {
+
+    private static int documento = 45000000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Integer empleadoId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        documento++;
+        empleadoId = empleadoService.crearEmpleado(new EmpleadoDTO(null, "Cache", "Prueba", "cache" + documento + "@test.com",
+                documento, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1))).getId();
+    }
+
+    @Test
+    void testEmpleadoSinCambiosRespondeNoModificadoSinCargarlo() throws Exception {
+        mockMvc.perform(get("/empleado/" + empleadoId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        // El GET anterior dejó al empleado en RegistroEmpleados, así que la versión no se consulta
+        statistics.clear();
+        mockMvc.perform(get("/empleado/" + empleadoId).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        mockMvc.perform(get("/empleado/" + empleadoId).header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+    }
+
+    @Test
+    void testActualizarConIfMatchDesactualizadoFalla() throws Exception {
+        String cuerpo = "{\"nombre\":\"Cambiado\",\"apellido\":\"Prueba\",\"email\":\"cache" + documento + "@test.com\","
+                + "\"nroDocumento\":" + documento + ",\"fechaNacimiento\":\"1990-01-01\",\"fechaIngreso\":\"2020-01-01\"}";
+
+        mockMvc.perform(put("/empleado/" + empleadoId).header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(cuerpo))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(put("/empleado/" + empleadoId).header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(cuerpo))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/empleado/" + empleadoId).header(HttpHeaders.IF_MATCH, "cualquiera")
+                        .contentType(MediaType.APPLICATION_JSON).content(cuerpo))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void testActualizacionConcurrenteNoPisaElCambio() {
+        Empleado desactualizado = empleadoRepository.findById(Long.valueOf(empleadoId)).orElseThrow();
+        EmpleadoDTO cambio = EmpleadoDTO.fromEntity(desactualizado);
+        cambio.setNombre("Primero");
+        empleadoService.actualizarEmpleado(empleadoId, cambio, null);
+
+        desactualizado.setNombre("Segundo");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> empleadoRepository.save(desactualizado));
+        assertEquals("Primero", empleadoService.obtenerEmpleadoPorId(empleadoId).getNombre());
+    }
+
+    @Test
+    void testConceptosSinCambiosRespondenNoModificadoSinConsultas() throws Exception {
+        String etag = mockMvc.perform(get("/concepto-laboral"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        statistics.clear();
+        mockMvc.perform(get("/concepto-laboral").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
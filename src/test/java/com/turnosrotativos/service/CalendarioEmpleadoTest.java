@@ -0,0 +1,101 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.repository.DiaCalendario;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarioEmpleadoTest {
+
+    private static final LocalDate FECHA = LocalDate.of(2024, 5, 15);
+    private static final LocalDate LUNES = AcumuladoJornada.inicioSemana(FECHA);
+
+    @Test
+    void testSumaHorasDelDiaYMarcaCadaConcepto() {
+        CalendarioEmpleado calendario = new CalendarioEmpleado();
+        calendario.cargarSemana(LUNES, List.of(dia(FECHA, 1, 8)));
+        calendario.registrar(FECHA, 2, 4);
+        calendario.registrar(FECHA.plusDays(1), 3, null);
+
+        assertEquals(12, calendario.horas(FECHA));
+        assertTrue(calendario.tieneConcepto(FECHA, 1));
+        assertTrue(calendario.tieneConcepto(FECHA, 2));
+        assertFalse(calendario.tieneConcepto(FECHA, 3));
+        assertEquals(0, calendario.horas(FECHA.plusDays(1)));
+        assertTrue(calendario.tieneConcepto(FECHA.plusDays(1), 3));
+    }
+
+    @Test
+    void testFechasFueraDelCalendarioEstanLibres() {
+        CalendarioEmpleado calendario = new CalendarioEmpleado();
+        assertEquals(0, calendario.horas(FECHA));
+        assertFalse(calendario.tieneConcepto(FECHA, 1));
+
+        calendario.cargarSemana(LUNES, List.of(dia(FECHA, 1, 8)));
+        assertEquals(0, calendario.horas(FECHA.minusYears(5)));
+        assertFalse(calendario.tieneConcepto(FECHA.plusYears(5), 1));
+    }
+
+    @Test
+    void testSoloRegistraEnSemanasCargadas() {
+        CalendarioEmpleado calendario = new CalendarioEmpleado();
+        calendario.cargarSemana(LUNES, List.of());
+        calendario.registrar(FECHA.plusWeeks(1), 1, 8);
+
+        assertFalse(calendario.tieneSemana(LUNES.plusWeeks(1)));
+        assertEquals(0, calendario.horas(FECHA.plusWeeks(1)));
+        assertFalse(calendario.tieneConcepto(FECHA.plusWeeks(1), 1));
+    }
+
+    @Test
+    void testCargarSemanaReemplazaLoQueHabia() {
+        CalendarioEmpleado calendario = new CalendarioEmpleado();
+        calendario.cargarSemana(LUNES, List.of(dia(FECHA, 1, 8)));
+        calendario.cargarSemana(LUNES.plusWeeks(1), List.of(dia(LUNES.plusWeeks(1), 2, 4)));
+
+        calendario.cargarSemana(LUNES, List.of(dia(FECHA, 2, 6)));
+
+        assertEquals(6, calendario.horas(FECHA));
+        assertFalse(calendario.tieneConcepto(FECHA, 1));
+        assertTrue(calendario.tieneConcepto(FECHA, 2));
+        assertEquals(4, calendario.horas(LUNES.plusWeeks(1)));
+    }
+
+    @Test
+    void testCoincideConLasJornadasYHorasDeLaSemana() {
+        CalendarioEmpleado calendario = new CalendarioEmpleado();
+        assertFalse(calendario.coincide(LUNES, 0, 0));
+
+        calendario.cargarSemana(LUNES, List.of(dia(LUNES, 1, 8), dia(LUNES.plusDays(6), 3, null)));
+        assertTrue(calendario.coincide(LUNES, 2, 8));
+        assertFalse(calendario.coincide(LUNES, 3, 14));
+
+        calendario.registrar(FECHA, 2, 6);
+        assertTrue(calendario.coincide(LUNES, 3, 14));
+    }
+
+    @Test
+    void testSemanasLejanasSeGuardanPorSeparado() {
+        CalendarioEmpleado calendario = new CalendarioEmpleado();
+        LocalDate primera = LocalDate.of(1, 1, 1);
+        LocalDate ultima = LocalDate.of(9999, 12, 31);
+        calendario.cargarSemana(LUNES, List.of(dia(FECHA, 1, 8)));
+        calendario.cargarSemana(AcumuladoJornada.inicioSemana(primera), List.of(dia(primera, 2, 6)));
+        calendario.cargarSemana(AcumuladoJornada.inicioSemana(ultima), List.of(dia(ultima, 3, null)));
+
+        assertEquals(8, calendario.horas(FECHA));
+        assertTrue(calendario.tieneConcepto(FECHA, 1));
+        assertEquals(6, calendario.horas(primera));
+        assertTrue(calendario.tieneConcepto(primera, 2));
+        assertTrue(calendario.tieneConcepto(ultima, 3));
+        assertFalse(calendario.tieneConcepto(ultima.minusDays(1), 3));
+        assertTrue(calendario.coincide(LUNES, 1, 8));
+    }
+
+    private static DiaCalendario dia(LocalDate fecha, Integer conceptoId, Integer horas) {
+        return new DiaCalendario(1, fecha, conceptoId, horas);
+    }
+}
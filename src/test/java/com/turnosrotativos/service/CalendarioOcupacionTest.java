@@ -0,0 +1,178 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.repository.JornadaLaboralRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Calendario de ocupación con lugar para dos empleados: sincronización con el commit, desalojo, recarga y
+// jornadas que se guardan en la base sin pasar por la aplicación
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:calendario",
+        "spring.jpa.show-sql=false",
+        "turnos.calendario.maximo-empleados=2"
+})
+class CalendarioOcupacionTest {
+
+    private static final LocalDate FECHA = LocalDate.of(2034, 6, 5);
+
+    @Autowired
+    private CalendarioOcupacion calendarioOcupacion;
+
+    @Autowired
+    private JornadaLaboralService jornadaLaboralService;
+
+    @Autowired
+    private JornadaLoteService jornadaLoteService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AcumuladoJornadaService acumuladoJornadaService;
+
+    @Autowired
+    private JornadaLaboralRepository jornadaLaboralRepository;
+
+    @Autowired
+    private RegistroEmpleados registroEmpleados;
+
+    @Autowired
+    private RegistroConceptos registroConceptos;
+
+    private static List<Integer> empleados;
+
+    @BeforeEach
+    void setUp() {
+        if (empleados == null) {
+            empleados = List.of(empleado(0), empleado(1), empleado(2), empleado(3));
+        }
+        calendarioOcupacion.invalidar();
+    }
+
+    @Test
+    void testUnAltaSeVeEnElCalendarioRecienDespuesDelCommit() {
+        Integer empleado = empleados.get(0);
+        transactionTemplate.executeWithoutResult(status -> {
+            jornadaLaboralService.crearJornada(request(empleado, 1, FECHA, 8));
+            status.setRollbackOnly();
+        });
+        long desactualizadosAntes = calendarioOcupacion.getDesactualizados();
+        assertEquals(new CalendarioOcupacion.Ocupacion(0, false), ocupacion(empleado, FECHA, 1));
+        assertEquals(desactualizadosAntes, calendarioOcupacion.getDesactualizados());
+
+        jornadaLaboralService.crearJornada(request(empleado, 1, FECHA, 8));
+        assertEquals(new CalendarioOcupacion.Ocupacion(8, true), ocupacion(empleado, FECHA, 1));
+        assertEquals(new CalendarioOcupacion.Ocupacion(8, false), ocupacion(empleado, FECHA, 2));
+        assertEquals(desactualizadosAntes, calendarioOcupacion.getDesactualizados());
+    }
+
+    @Test
+    void testElLoteActualizaElCalendario() {
+        Integer empleado = empleados.get(1);
+        ocupacion(empleado, FECHA, 2);
+        jornadaLoteService.crearJornadas(List.of(request(empleado, 2, FECHA.plusDays(1), 6),
+                request(empleado, 1, FECHA.plusDays(1), 8)));
+        long aciertosAntes = calendarioOcupacion.getAciertos();
+
+        assertEquals(new CalendarioOcupacion.Ocupacion(14, true), ocupacion(empleado, FECHA.plusDays(1), 2));
+        assertEquals(aciertosAntes + 1, calendarioOcupacion.getAciertos());
+        BadRequestException exception = assertThrows(BadRequestException.class, () ->
+                jornadaLaboralService.crearJornada(request(empleado, 2, FECHA.plusDays(1), 2)));
+        assertEquals("Un empleado no puede cargar más de 14 horas trabajadas en un día.", exception.getMessage());
+    }
+
+    @Test
+    void testDesalojaAlMenosUsadoYLoVuelveALeerDeLaBase() {
+        Integer primero = empleados.get(2);
+        jornadaLaboralService.crearJornada(request(primero, 2, FECHA.plusDays(2), 4));
+        long desalojosAntes = calendarioOcupacion.getDesalojos();
+        long fallosAntes = calendarioOcupacion.getFallos();
+
+        ocupacion(primero, FECHA, 1);
+        ocupacion(empleados.get(3), FECHA, 1);
+        ocupacion(empleados.get(0), FECHA, 1);
+        assertEquals(2, calendarioOcupacion.getEmpleados());
+        assertEquals(desalojosAntes + 1, calendarioOcupacion.getDesalojos());
+
+        assertEquals(new CalendarioOcupacion.Ocupacion(4, true), ocupacion(primero, FECHA.plusDays(2), 2));
+        assertEquals(fallosAntes + 3, calendarioOcupacion.getFallos());
+        BadRequestException exception = assertThrows(BadRequestException.class, () ->
+                jornadaLaboralService.crearJornada(request(primero, 2, FECHA.plusDays(2), 4)));
+        assertEquals("El empleado ya tiene registrado una jornada con este concepto en la fecha ingresada.", exception.getMessage());
+    }
+
+    @Test
+    void testPrecargaLaSemanaActualDeLosEmpleadosConJornadasMasRecientes() {
+        LocalDate lunes = AcumuladoJornada.inicioSemana(LocalDate.now());
+        jornadaLaboralService.crearJornada(request(empleados.get(3), 1, lunes.plusDays(2), 6));
+        jornadaLaboralService.crearJornada(request(empleados.get(2), 1, lunes.plusDays(1), 6));
+        jornadaLaboralService.crearJornada(request(empleados.get(0), 1, lunes, 6));
+        calendarioOcupacion.invalidar();
+
+        calendarioOcupacion.precargar();
+
+        assertEquals(2, calendarioOcupacion.getEmpleados());
+        long fallosAntes = calendarioOcupacion.getFallos();
+        assertEquals(new CalendarioOcupacion.Ocupacion(6, true), ocupacion(empleados.get(3), lunes.plusDays(2), 1));
+        assertEquals(new CalendarioOcupacion.Ocupacion(6, true), ocupacion(empleados.get(2), lunes.plusDays(1), 1));
+        assertEquals(fallosAntes, calendarioOcupacion.getFallos());
+    }
+
+    @Test
+    void testLoQueSeCargaPorFueraSeDetectaPorElAcumulado() {
+        Integer empleado = empleados.get(1);
+        LocalDate fecha = FECHA.plusWeeks(1);
+        jornadaLaboralService.crearJornada(request(empleado, 1, fecha, 8));
+        long desactualizadosAntes = calendarioOcupacion.getDesactualizados();
+
+        // Una corrección por SQL guarda la jornada y los acumulados sin pasar por este calendario
+        transactionTemplate.executeWithoutResult(status -> {
+            AcumuladoJornadaService.Acumulados acumulados = acumuladoJornadaService.obtenerParaValidacion(empleado, fecha);
+            JornadaLaboral jornada = jornadaLaboralRepository.save(request(empleado, 2, fecha, 6).toEntity(
+                    registroEmpleados.obtener(empleado).orElseThrow(), registroConceptos.obtener(2).orElseThrow()));
+            acumuladoJornadaService.registrar(acumulados, jornada);
+        });
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () ->
+                jornadaLaboralService.crearJornada(request(empleado, 2, fecha, 2)));
+        assertEquals("Un empleado no puede cargar más de 14 horas trabajadas en un día.", exception.getMessage());
+        assertEquals(desactualizadosAntes + 1, calendarioOcupacion.getDesactualizados());
+        assertEquals(new CalendarioOcupacion.Ocupacion(14, true), ocupacion(empleado, fecha, 2));
+    }
+
+    // Igual que en el alta: con el acumulado de la semana leído con bloqueo de fila
+    private CalendarioOcupacion.Ocupacion ocupacion(Integer empleado, LocalDate fecha, Integer concepto) {
+        return transactionTemplate.execute(status -> calendarioOcupacion.ocupacion(empleado, fecha, concepto,
+                acumuladoJornadaService.obtenerParaValidacion(empleado, fecha).semana()));
+    }
+
+    private Integer empleado(int indice) {
+        EmpleadoDTO empleadoDTO = new EmpleadoDTO(null, "Calendario", "Prueba", "calendario" + indice + "@test.com",
+                43000000 + indice, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+        return empleadoService.crearEmpleado(empleadoDTO).getId();
+    }
+
+    private JornadaRequestDTO request(Integer idEmpleado, Integer idConcepto, LocalDate fecha, Integer horas) {
+        JornadaRequestDTO requestDTO = new JornadaRequestDTO();
+        requestDTO.setIdEmpleado(idEmpleado);
+        requestDTO.setIdConcepto(idConcepto);
+        requestDTO.setFecha(fecha);
+        requestDTO.setHorasTrabajadas(horas);
+        return requestDTO;
+    }
+}
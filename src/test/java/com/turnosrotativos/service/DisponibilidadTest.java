@@ -0,0 +1,131 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.DisponibilidadEmpleadoDTO;
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.exception.NotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Disponibilidad de una semana armada a mano. El sábado se consulta quién puede tomar un turno normal o extra,
+// y el domingo se llena el cupo de días libres
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:disponibilidad",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class DisponibilidadTest {
+
+    private static final LocalDate LUNES = LocalDate.of(2033, 3, 7);
+    private static final LocalDate SABADO = LUNES.plusDays(5);
+    private static final LocalDate DOMINGO = LUNES.plusDays(6);
+
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
+    @Autowired
+    private JornadaLaboralService jornadaLaboralService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    // A: 3 turnos normales. B: 5 turnos normales. A y B: día libre el domingo. C: un turno extra el sábado.
+    // D: sin jornadas. E: ingresa después
+    private static Integer a, b, c, d, e;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (a == null) {
+            a = empleado(0, LocalDate.of(2020, 1, 1));
+            b = empleado(1, LocalDate.of(2020, 1, 1));
+            c = empleado(2, LocalDate.of(2020, 1, 1));
+            d = empleado(3, LocalDate.of(2020, 1, 1));
+            e = empleado(4, DOMINGO.plusDays(1));
+            for (int dia = 0; dia < 5; dia++) {
+                if (dia < 3) {
+                    jornadaLaboralService.crearJornada(request(a, 1, LUNES.plusDays(dia), 8));
+                }
+                jornadaLaboralService.crearJornada(request(b, 1, LUNES.plusDays(dia), 8));
+            }
+            jornadaLaboralService.crearJornada(request(c, 2, SABADO, 6));
+            jornadaLaboralService.crearJornada(request(a, 3, DOMINGO, null));
+            jornadaLaboralService.crearJornada(request(b, 3, DOMINGO, null));
+        }
+        statistics.clear();
+    }
+
+    @Test
+    void testTurnoNormalOrdenaPorHorasLibresYExcluyeCuposLlenos() {
+        List<DisponibilidadEmpleadoDTO> disponibles = disponibilidadService.obtenerDisponibles(SABADO, 1);
+
+        assertEquals(List.of(d, c, a), disponibles.stream().map(DisponibilidadEmpleadoDTO::idEmpleado).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        DisponibilidadEmpleadoDTO conTurnoExtra = disponibles.get(1);
+        assertEquals(8, conTurnoExtra.horasDisponibles());
+        assertEquals(8, conTurnoExtra.horasRestantesDia());
+        assertEquals(46, conTurnoExtra.horasRestantesSemana());
+
+        DisponibilidadEmpleadoDTO conTresTurnos = disponibles.get(2);
+        assertEquals(28, conTresTurnos.horasRestantesSemana());
+        assertEquals(166, conTresTurnos.horasRestantesMes());
+        assertEquals(2, conTresTurnos.cupoRestanteSemana());
+        assertNull(conTresTurnos.cupoRestanteMes());
+        assertEquals(1, conTresTurnos.diasLibresRestantesSemana());
+        assertEquals(4, conTresTurnos.diasLibresRestantesMes());
+    }
+
+    @Test
+    void testTurnoExtraExcluyeAQuienYaLoTieneEnElDia() {
+        List<DisponibilidadEmpleadoDTO> disponibles = disponibilidadService.obtenerDisponibles(SABADO, 2);
+
+        assertEquals(List.of(d, a, b), disponibles.stream().map(DisponibilidadEmpleadoDTO::idEmpleado).toList());
+        assertEquals(6, disponibles.get(2).horasDisponibles());
+        assertEquals(12, disponibles.get(2).horasRestantesSemana());
+        assertEquals(3, disponibles.get(2).cupoRestanteSemana());
+    }
+
+    @Test
+    void testSinLugarEnElDiaNoHayDisponibles() {
+        assertTrue(disponibilidadService.obtenerDisponibles(DOMINGO, 3).isEmpty());
+
+        List<DisponibilidadEmpleadoDTO> lunesSiguiente = disponibilidadService.obtenerDisponibles(DOMINGO.plusDays(1), 3);
+        assertEquals(5, lunesSiguiente.size());
+        assertTrue(lunesSiguiente.stream().allMatch(disponible -> disponible.horasDisponibles() == null));
+        assertTrue(lunesSiguiente.stream().anyMatch(disponible -> disponible.idEmpleado().equals(e)));
+    }
+
+    @Test
+    void testConceptoInexistente() {
+        assertThrows(NotFoundException.class, () -> disponibilidadService.obtenerDisponibles(SABADO, 99));
+    }
+
+    private Integer empleado(int indice, LocalDate fechaIngreso) {
+        EmpleadoDTO empleadoDTO = new EmpleadoDTO(null, "Disponible", "Prueba", "disponible" + indice + "@test.com",
+                42000000 + indice, LocalDate.of(1990, 1, 1), fechaIngreso);
+        return empleadoService.crearEmpleado(empleadoDTO).getId();
+    }
+
+    private JornadaRequestDTO request(Integer idEmpleado, Integer idConcepto, LocalDate fecha, Integer horas) {
+        JornadaRequestDTO requestDTO = new JornadaRequestDTO();
+        requestDTO.setIdEmpleado(idEmpleado);
+        requestDTO.setIdConcepto(idConcepto);
+        requestDTO.setFecha(fecha);
+        requestDTO.setHorasTrabajadas(horas);
+        return requestDTO;
+    }
+}
@@ -0,0 +1,117 @@
+package com.turnosrotativos.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turnosrotativos.dto.EmpleadoDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Listado paginado de empleados de punta a punta: filtros, orden, páginas y campos pedidos
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listado",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class EmpleadoListadoTest {
+
+    private static final String[] APELLIDOS = {"Garcia", "Gomez", "Galvan", "Perez", "Gil"};
+    private static boolean datosCargados;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        if (datosCargados) {
+            return;
+        }
+        for (int i = 0; i < APELLIDOS.length; i++) {
+            empleadoService.crearEmpleado(new EmpleadoDTO(null, "Listado", APELLIDOS[i], "listado" + i + "@test.com",
+                    44000000 + i, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1 + i, 1)));
+        }
+        datosCargados = true;
+    }
+
+    @Test
+    void testFiltroPorApellidoOrdenadoYPaginado() throws Exception {
+        MvcResult primera = mockMvc.perform(get("/empleado").param("apellido", "G").param("orden", "apellido")
+                        .param("tamanio", "3"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Siguiente-Pagina", "1"))
+                .andReturn();
+        MvcResult segunda = mockMvc.perform(get("/empleado").param("apellido", "G").param("orden", "apellido")
+                        .param("tamanio", "3").param("pagina", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Siguiente-Pagina"))
+                .andReturn();
+
+        List<String> apellidos = new ArrayList<>(apellidos(primera));
+        apellidos.addAll(apellidos(segunda));
+        assertEquals(List.of("Galvan", "Garcia", "Gil", "Gomez"), apellidos);
+    }
+
+    @Test
+    void testFiltroPorDocumentoYRangoDeIngreso() throws Exception {
+        JsonNode porDocumento = leer(mockMvc.perform(get("/empleado").param("nroDocumento", "44000003"))
+                .andExpect(status().isOk()).andReturn());
+        assertEquals(1, porDocumento.size());
+        assertEquals("Perez", porDocumento.get(0).get("apellido").asText());
+
+        JsonNode porIngreso = leer(mockMvc.perform(get("/empleado").param("fechaIngresoDesde", "2020-02-01")
+                        .param("fechaIngresoHasta", "2020-03-31").param("orden", "fechaIngreso,desc"))
+                .andExpect(status().isOk()).andReturn());
+        assertEquals(2, porIngreso.size());
+        assertEquals("Galvan", porIngreso.get(0).get("apellido").asText());
+        assertEquals("Gomez", porIngreso.get(1).get("apellido").asText());
+    }
+
+    @Test
+    void testCamposPedidosNoIncluyenElResto() throws Exception {
+        JsonNode empleados = leer(mockMvc.perform(get("/empleado").param("campos", "nombre,apellido"))
+                .andExpect(status().isOk()).andReturn());
+
+        JsonNode empleado = empleados.get(0);
+        assertTrue(empleado.has("id"));
+        assertTrue(empleado.has("apellido"));
+        assertFalse(empleado.has("fechaNacimiento"));
+        assertFalse(empleado.has("fechaCreacion"));
+        assertFalse(empleado.has("email"));
+    }
+
+    @Test
+    void testParametrosInvalidos() throws Exception {
+        mockMvc.perform(get("/empleado").param("campos", "sueldo")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/empleado").param("orden", "email")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/empleado").param("tamanio", "5000")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/empleado").param("pagina", "2000000000").param("tamanio", "1000")).andExpect(status().isBadRequest());
+    }
+
+    private List<String> apellidos(MvcResult resultado) throws Exception {
+        List<String> apellidos = new ArrayList<>();
+        leer(resultado).forEach(empleado -> apellidos.add(empleado.get("apellido").asText()));
+        return apellidos;
+    }
+
+    private JsonNode leer(MvcResult resultado) throws Exception {
+        return objectMapper.readTree(resultado.getResponse().getContentAsString());
+    }
+}
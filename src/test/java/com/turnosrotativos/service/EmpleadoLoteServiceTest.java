@@ -0,0 +1,157 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.EmpleadoLoteResultadoDTO;
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.repository.EmpleadoRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmpleadoLoteServiceTest {
+
+    @InjectMocks
+    private EmpleadoLoteService empleadoLoteService;
+
+    @Mock
+    private EmpleadoRepository empleadoRepository;
+
+    @Mock
+    private IndiceIdentidad indiceIdentidad;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(empleadoRepository.findByNroDocumentoInOrEmailIn(anyCollection(), anyCollection())).thenReturn(Collections.emptyList());
+        AtomicInteger ids = new AtomicInteger();
+        when(empleadoRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Empleado> empleados = invocation.getArgument(0);
+            empleados.forEach(empleado -> empleado.setId(ids.incrementAndGet()));
+            return empleados;
+        });
+    }
+
+    @Test
+    void testCreaTodasLasFilasValidasEnUnSoloGuardado() {
+        List<EmpleadoLoteResultadoDTO> resultados = empleadoLoteService.crearEmpleados(List.of(
+                empleadoDTO(1), empleadoDTO(2), empleadoDTO(3)));
+
+        assertTrue(resultados.stream().allMatch(r -> r.getStatus() == 201));
+        assertEquals(List.of(0, 1, 2), resultados.stream().map(EmpleadoLoteResultadoDTO::getIndice).toList());
+        assertEquals("empleado2@test.com", resultados.get(1).getEmpleado().getEmail());
+        assertNotNull(resultados.get(2).getEmpleado().getId());
+        verify(empleadoRepository, times(1)).findByNroDocumentoInOrEmailIn(anyCollection(), anyCollection());
+        verify(empleadoRepository, times(1)).saveAll(anyList());
+        verify(empleadoRepository, never()).save(any());
+    }
+
+    @Test
+    void testRechazaDocumentoYEmailYaExistentes() {
+        Empleado existente = empleadoDTO(2).toEntity();
+        when(empleadoRepository.findByNroDocumentoInOrEmailIn(anyCollection(), anyCollection())).thenReturn(List.of(existente));
+        EmpleadoDTO mismoDocumento = empleadoDTO(3);
+        mismoDocumento.setNroDocumento(existente.getNroDocumento());
+
+        List<EmpleadoLoteResultadoDTO> resultados = empleadoLoteService.crearEmpleados(List.of(
+                empleadoDTO(1), empleadoDTO(2), mismoDocumento));
+
+        assertEquals(201, resultados.get(0).getStatus());
+        assertEquals(409, resultados.get(1).getStatus());
+        assertEquals("Ya existe un empleado con el email ingresado.", resultados.get(1).getMensaje());
+        assertEquals(409, resultados.get(2).getStatus());
+        assertEquals("Ya existe un empleado con el documento ingresado.", resultados.get(2).getMensaje());
+        verify(empleadoRepository).saveAll(argThat(empleados -> ((List<Empleado>) empleados).size() == 1));
+    }
+
+    @Test
+    void testConElIndiceCargadoNoConsultaLaBase() {
+        when(indiceIdentidad.isCargado()).thenReturn(true);
+        when(indiceIdentidad.existeEmail("empleado2@test.com")).thenReturn(true);
+        when(indiceIdentidad.existeDocumento(20000003)).thenReturn(true);
+
+        List<EmpleadoLoteResultadoDTO> resultados = empleadoLoteService.crearEmpleados(List.of(
+                empleadoDTO(1), empleadoDTO(2), empleadoDTO(3)));
+
+        assertEquals(List.of(201, 409, 409), resultados.stream().map(EmpleadoLoteResultadoDTO::getStatus).toList());
+        assertEquals("Ya existe un empleado con el documento ingresado.", resultados.get(2).getMensaje());
+        verify(empleadoRepository, never()).findByNroDocumentoInOrEmailIn(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void testFilasRepetidasDentroDelLote() {
+        EmpleadoDTO mismoEmail = empleadoDTO(2);
+        mismoEmail.setEmail("empleado1@test.com");
+
+        List<EmpleadoLoteResultadoDTO> resultados = empleadoLoteService.crearEmpleados(List.of(
+                empleadoDTO(1), mismoEmail, empleadoDTO(1)));
+
+        assertEquals(201, resultados.get(0).getStatus());
+        assertEquals(409, resultados.get(1).getStatus());
+        assertEquals("Ya existe un empleado con el email ingresado.", resultados.get(1).getMensaje());
+        assertEquals(409, resultados.get(2).getStatus());
+    }
+
+    @Test
+    void testFilaRechazadaNoReservaSuEmail() {
+        Empleado existente = empleadoDTO(5).toEntity();
+        when(empleadoRepository.findByNroDocumentoInOrEmailIn(anyCollection(), anyCollection())).thenReturn(List.of(existente));
+        EmpleadoDTO documentoExistente = empleadoDTO(1);
+        documentoExistente.setNroDocumento(existente.getNroDocumento());
+        EmpleadoDTO mismoEmail = empleadoDTO(2);
+        mismoEmail.setEmail(documentoExistente.getEmail());
+
+        List<EmpleadoLoteResultadoDTO> resultados = empleadoLoteService.crearEmpleados(List.of(documentoExistente, mismoEmail));
+
+        assertEquals(409, resultados.get(0).getStatus());
+        assertEquals("Ya existe un empleado con el documento ingresado.", resultados.get(0).getMensaje());
+        assertEquals(201, resultados.get(1).getStatus());
+        assertEquals("empleado1@test.com", resultados.get(1).getEmpleado().getEmail());
+    }
+
+    @Test
+    void testFilaInvalidaNoFrenaElResto() {
+        EmpleadoDTO sinNombre = empleadoDTO(2);
+        sinNombre.setNombre(null);
+
+        List<EmpleadoLoteResultadoDTO> resultados = empleadoLoteService.crearEmpleados(List.of(empleadoDTO(1), sinNombre));
+
+        assertEquals(201, resultados.get(0).getStatus());
+        assertEquals(400, resultados.get(1).getStatus());
+        assertEquals("El nombre es obligatorio.", resultados.get(1).getMensaje());
+    }
+
+    @Test
+    void testLoteVacioOExcedido() {
+        assertThrows(BadRequestException.class, () -> empleadoLoteService.crearEmpleados(List.of()));
+
+        List<EmpleadoDTO> lote = new ArrayList<>();
+        for (int i = 0; i < 5001; i++) {
+            lote.add(empleadoDTO(i));
+        }
+        assertThrows(BadRequestException.class, () -> empleadoLoteService.crearEmpleados(lote));
+        verifyNoInteractions(empleadoRepository);
+    }
+
+    private EmpleadoDTO empleadoDTO(int i) {
+        return new EmpleadoDTO(null, "Lote", "Prueba", "empleado" + i + "@test.com", 20000000 + i,
+                LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+    }
+}
@@ -1,24 +1,31 @@
 package com.turnosrotativos.service;
 
 import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.PaginaEmpleadosDTO;
 import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.exception.ConflictException;
 import com.turnosrotativos.exception.NotFoundException;
+import com.turnosrotativos.exception.PreconditionFailedException;
 import com.turnosrotativos.model.Empleado;
 import com.turnosrotativos.repository.EmpleadoRepository;
+import com.turnosrotativos.repository.FiltroEmpleados;
 import com.turnosrotativos.repository.JornadaLaboralRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Sort;
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class EmpleadoServiceTest {
@@ -29,6 +36,12 @@ class EmpleadoServiceTest {
     @Mock
     private JornadaLaboralRepository jornadaLaboralRepository;
 
+    @Mock
+    private RegistroEmpleados registroEmpleados;
+
+    @Mock
+    private IndiceIdentidad indiceIdentidad;
+
     @InjectMocks
     private EmpleadoService empleadoService;
 
@@ -76,20 +89,75 @@ class EmpleadoServiceTest {
     }
 
     @Test
-    void obtenerTodosLosEmpleados() {
-        when(empleadoRepository.findAll()).thenReturn(Arrays.asList(empleado1, empleado2));
+    void crearEmpleadoConDocumentoExistenteNoIntentaElInsert() {
+        when(indiceIdentidad.existeDocumento(30415654)).thenReturn(true);
 
-        List<EmpleadoDTO> result = empleadoService.obtenerTodosLosEmpleados();
+        Exception exception = assertThrows(ConflictException.class, () -> empleadoService.crearEmpleado(empleadoDTO1));
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.stream().anyMatch(e -> e.getId().equals(empleado1.getId())));
-        assertTrue(result.stream().anyMatch(e -> e.getId().equals(empleado2.getId())));
+        assertEquals("Ya existe un empleado con el documento ingresado.", exception.getMessage());
+        verify(empleadoRepository, never()).save(any(Empleado.class));
+    }
+
+    @Test
+    void crearEmpleadoConEmailExistenteNoIntentaElInsert() {
+        when(indiceIdentidad.existeEmail("gzotella@gmail.com")).thenReturn(true);
+
+        Exception exception = assertThrows(ConflictException.class, () -> empleadoService.crearEmpleado(empleadoDTO1));
+
+        assertEquals("Ya existe un empleado con el email ingresado.", exception.getMessage());
+        verify(empleadoRepository, never()).save(any(Empleado.class));
+    }
+
+    @Test
+    void obtenerEmpleadosConSiguientePagina() {
+        FiltroEmpleados filtro = new FiltroEmpleados("Z", null, null, null);
+        when(empleadoRepository.buscarPagina(eq(filtro), anyList(), any(Sort.class), eq(2), eq(3)))
+                .thenReturn(new ArrayList<>(List.of(empleadoDTO1, empleadoDTO2, empleadoDTO1)));
+
+        PaginaEmpleadosDTO result = empleadoService.obtenerEmpleados(filtro, null, "apellido,desc", 1, 2);
+
+        assertEquals(2, result.empleados().size());
+        assertEquals(2, result.siguientePagina());
+        verify(empleadoRepository).buscarPagina(eq(filtro), eq(List.of("id", "nombre", "apellido", "email",
+                "nroDocumento", "fechaNacimiento", "fechaIngreso", "fechaCreacion")),
+                eq(Sort.by(Sort.Direction.DESC, "apellido").and(Sort.by(Sort.Direction.DESC, "id"))), eq(2), eq(3));
+    }
+
+    @Test
+    void obtenerEmpleadosConCamposPedidos() {
+        when(empleadoRepository.buscarPagina(any(), anyList(), any(Sort.class), anyInt(), anyInt()))
+                .thenReturn(new ArrayList<>(List.of(empleadoDTO1)));
+
+        PaginaEmpleadosDTO result = empleadoService.obtenerEmpleados(new FiltroEmpleados(null, null, null, null),
+                "apellido, nombre", null, 0, 100);
+
+        assertNull(result.siguientePagina());
+        verify(empleadoRepository).buscarPagina(any(), eq(List.of("id", "apellido", "nombre")), eq(Sort.by("id")), eq(0), eq(101));
+    }
+
+    @Test
+    void obtenerEmpleadosConCampoUOrdenInvalido() {
+        FiltroEmpleados filtro = new FiltroEmpleados(null, null, null, null);
+
+        assertThrows(BadRequestException.class, () -> empleadoService.obtenerEmpleados(filtro, "sueldo", null, 0, 10));
+        assertThrows(BadRequestException.class, () -> empleadoService.obtenerEmpleados(filtro, null, "email", 0, 10));
+        assertThrows(BadRequestException.class, () -> empleadoService.obtenerEmpleados(filtro, null, "apellido,arriba", 0, 10));
+        verifyNoInteractions(empleadoRepository);
+    }
+
+    @Test
+    void obtenerEmpleadosConPaginaFueraDeRango() {
+        FiltroEmpleados filtro = new FiltroEmpleados(null, null, null, null);
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () ->
+                empleadoService.obtenerEmpleados(filtro, null, null, Integer.MAX_VALUE / 10, 100));
+        assertEquals("La página pedida está fuera de rango para ese tamaño de página.", exception.getMessage());
+        verifyNoInteractions(empleadoRepository);
     }
 
     @Test
     void obtenerEmpleadoPorIdExistente() {
-        when(empleadoRepository.findById(anyLong())).thenReturn(Optional.of(empleado1));
+        when(registroEmpleados.obtener(1)).thenReturn(Optional.of(empleado1));
 
         EmpleadoDTO result = empleadoService.obtenerEmpleadoPorId(1);
 
@@ -97,12 +165,13 @@ class EmpleadoServiceTest {
         assertEquals(empleado1.getId(), result.getId());
         assertEquals(empleado1.getNombre(), result.getNombre());
 
-        verify(empleadoRepository).findById(anyLong());
+        verify(registroEmpleados).obtener(1);
+        verifyNoInteractions(empleadoRepository);
     }
 
     @Test
     void obtenerEmpleadoPorIdInexistente() {
-        when(empleadoRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(registroEmpleados.obtener(1)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(NotFoundException.class, () -> {
             empleadoService.obtenerEmpleadoPorId(1);
@@ -111,12 +180,30 @@ class EmpleadoServiceTest {
         assertEquals("No se encontró el empleado con Id: 1", exception.getMessage());
     }
 
+    @Test
+    void obtenerVersionEmpleadoEnCacheNoConsultaLaBase() {
+        empleado1.setVersion(4);
+        when(registroEmpleados.enMemoria(1)).thenReturn(Optional.of(empleado1));
+
+        assertEquals(4, empleadoService.obtenerVersionEmpleado(1));
+        verifyNoInteractions(empleadoRepository);
+    }
+
+    @Test
+    void obtenerVersionEmpleadoFueraDeCache() {
+        when(registroEmpleados.enMemoria(1)).thenReturn(Optional.empty());
+        when(empleadoRepository.buscarVersion(1)).thenReturn(Optional.of(2));
+
+        assertEquals(2, empleadoService.obtenerVersionEmpleado(1));
+        verify(empleadoRepository, never()).findById(anyLong());
+    }
+
     @Test
     void actualizarEmpleadoExistente() {
         when(empleadoRepository.findById(anyLong())).thenReturn(Optional.of(empleado1));
         when(empleadoRepository.save(any(Empleado.class))).thenReturn(empleado1);
 
-        EmpleadoDTO result = empleadoService.actualizarEmpleado(1, empleadoDTO1);
+        EmpleadoDTO result = empleadoService.actualizarEmpleado(1, empleadoDTO1, null);
 
         assertNotNull(result);
         assertEquals(empleadoDTO1.getId(), result.getId());
@@ -126,12 +213,37 @@ class EmpleadoServiceTest {
         verify(empleadoRepository).save(any(Empleado.class));
     }
 
+    @Test
+    void actualizarEmpleadoSoloVerificaLoQueCambia() {
+        when(empleadoRepository.findById(anyLong())).thenReturn(Optional.of(empleado1));
+        when(indiceIdentidad.existeDocumento(30865478)).thenReturn(true);
+        EmpleadoDTO mismoDocumento = new EmpleadoDTO(null, "Otro", "Nombre", "nuevo@gmail.com", 30415654,
+                empleadoDTO1.getFechaNacimiento(), empleadoDTO1.getFechaIngreso());
+
+        empleadoService.actualizarEmpleado(1, mismoDocumento, null);
+
+        verify(indiceIdentidad, never()).existeDocumento(anyInt());
+        verify(indiceIdentidad).existeEmail("nuevo@gmail.com");
+        assertThrows(ConflictException.class, () -> empleadoService.actualizarEmpleado(1, empleadoDTO2, null));
+    }
+
+    @Test
+    void actualizarEmpleadoConVersionDesactualizada() {
+        empleado1.setVersion(3);
+        when(empleadoRepository.findById(anyLong())).thenReturn(Optional.of(empleado1));
+
+        assertThrows(PreconditionFailedException.class, () -> empleadoService.actualizarEmpleado(1, empleadoDTO2, 2));
+
+        assertEquals("German", empleado1.getNombre());
+        verify(empleadoRepository, never()).save(any(Empleado.class));
+    }
+
     @Test
     void actualizarEmpleadoInexistente() {
         when(empleadoRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(NotFoundException.class, () -> {
-            empleadoService.actualizarEmpleado(1, empleadoDTO1);
+            empleadoService.actualizarEmpleado(1, empleadoDTO1, null);
         });
 
         assertEquals("No se encontró el empleado con Id: 1", exception.getMessage());
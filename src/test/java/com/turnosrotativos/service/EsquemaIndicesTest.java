@@ -0,0 +1,76 @@
+package com.turnosrotativos.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Revisa con EXPLAIN que las consultas calientes sobre jornadas y empleados usen los índices de las migraciones
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:indices",
+        "spring.jpa.show-sql=false"
+})
+class EsquemaIndicesTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testJornadasPorEmpleadoYRangoUsanIndiceUnico() {
+        String plan = explicar("SELECT * FROM jornada_laboral WHERE empleado_id IN (1, 2) " +
+                "AND fecha BETWEEN DATE '2024-05-01' AND DATE '2024-05-31'");
+        assertTrue(plan.contains("UK_JORNADA_LABORAL_EMPLEADO_FECHA_CONCEPTO"), plan);
+    }
+
+    @Test
+    void testConteoPorFechaYConceptoUsaIndiceFechaConcepto() {
+        String plan = explicar("SELECT fecha, concepto_laboral_id, COUNT(*) FROM jornada_laboral " +
+                "WHERE fecha BETWEEN DATE '2024-05-01' AND DATE '2024-05-31' GROUP BY fecha, concepto_laboral_id");
+        assertTrue(plan.contains("IX_JORNADA_LABORAL_FECHA_CONCEPTO"), plan);
+    }
+
+    @Test
+    void testJornadasDelDiaUsanIndiceFechaConcepto() {
+        String plan = explicar("SELECT * FROM jornada_laboral WHERE fecha = DATE '2024-05-06' " +
+                "AND (empleado_id = 1 OR concepto_laboral_id = 1)");
+        assertTrue(plan.contains("IX_JORNADA_LABORAL_FECHA_CONCEPTO"), plan);
+    }
+
+    @Test
+    void testJornadasPorDocumentoUsanIndiceDeDocumento() {
+        String plan = explicar("SELECT j.* FROM jornada_laboral j JOIN empleados e ON e.id = j.empleado_id " +
+                "WHERE e.nro_documento = 30111222");
+        assertTrue(plan.contains("UK_EMPLEADOS_DOCUMENTO"), plan);
+    }
+
+    @Test
+    void testEmpleadosPorPrefijoDeApellidoUsanIndiceApellido() {
+        String plan = explicar("SELECT id, nombre, apellido FROM empleados WHERE apellido LIKE 'Gar%' " +
+                "ORDER BY apellido, id LIMIT 100");
+        assertTrue(plan.contains("IX_EMPLEADOS_APELLIDO"), plan);
+    }
+
+    @Test
+    void testEmpleadosPorRangoDeIngresoUsanIndiceFechaIngreso() {
+        String plan = explicar("SELECT * FROM empleados WHERE fecha_ingreso BETWEEN DATE '2020-01-01' AND DATE '2020-12-31'");
+        assertTrue(plan.contains("IX_EMPLEADOS_FECHA_INGRESO"), plan);
+    }
+
+    @Test
+    void testJornadaDuplicadaLaRechazaLaBase() {
+        jdbcTemplate.update("INSERT INTO empleados (id, nro_documento, nombre, apellido, email, fecha_nacimiento, " +
+                "fecha_ingreso, fecha_creacion) VALUES (900, 30999999, 'Indice', 'Prueba', 'indice@test.com', " +
+                "DATE '1990-01-01', DATE '2020-01-01', CURRENT_TIMESTAMP)");
+        String insert = "INSERT INTO jornada_laboral (id, empleado_id, concepto_laboral_id, fecha, horas_trabajadas) " +
+                "VALUES (?, 900, 1, DATE '2024-05-06', 8)";
+        jdbcTemplate.update(insert, 9001);
+        assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update(insert, 9002));
+    }
+
+    private String explicar(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)).toUpperCase();
+    }
+}
@@ -0,0 +1,142 @@
+package com.turnosrotativos.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.model.FormatoExportacion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:exportacion",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class ExportacionJornadasTest {
+
+    private static final YearMonth MES = YearMonth.of(2034, 3);
+    private static boolean datosCargados;
+
+    @Autowired
+    private ExportacionJornadasService exportacionJornadasService;
+
+    @Autowired
+    private JornadaLaboralService jornadaLaboralService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        if (datosCargados) {
+            return;
+        }
+        Integer empleadoId = empleadoService.crearEmpleado(new EmpleadoDTO(null, "Exporta", "Prueba", "exporta@test.com",
+                44000000, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1))).getId();
+        jornadaLaboralService.crearJornada(jornada(empleadoId, 1, MES.atDay(6), 8));
+        jornadaLaboralService.crearJornada(jornada(empleadoId, 3, MES.atDay(7), null));
+        jornadaLaboralService.crearJornada(jornada(empleadoId, 1, MES.plusMonths(1).atDay(3), 7));
+        datosCargados = true;
+    }
+
+    @Test
+    void testExportarCsvSoloIncluyeLasJornadasDelMes() throws Exception {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        exportacionJornadasService.exportar(MES, FormatoExportacion.CSV, salida);
+
+        List<String> lineas = salida.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, lineas.size());
+        assertEquals("id,nroDocumento,nombreCompleto,fecha,concepto,horasTrabajadas", lineas.get(0));
+        assertTrue(lineas.get(1).endsWith(",44000000,Exporta Prueba,2034-03-06,Turno Normal,8"));
+        assertTrue(lineas.get(2).endsWith(",44000000,Exporta Prueba,2034-03-07,Día Libre,"));
+    }
+
+    @Test
+    void testExportarNdjsonOmiteLasHorasDeConceptosNoLaborables() throws Exception {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        exportacionJornadasService.exportar(MES, FormatoExportacion.NDJSON, salida);
+
+        List<String> lineas = salida.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lineas.size());
+        JsonNode turnoNormal = objectMapper.readTree(lineas.get(0));
+        assertEquals("Exporta Prueba", turnoNormal.get("nombreCompleto").asText());
+        assertEquals(8, turnoNormal.get("horasTrabajadas").asInt());
+        JsonNode diaLibre = objectMapper.readTree(lineas.get(1));
+        assertEquals("Día Libre", diaLibre.get("concepto").asText());
+        assertFalse(diaLibre.has("horasTrabajadas"));
+    }
+
+    @Test
+    void testExportarComprimeSiElClienteAceptaGzip() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/jornada/export").param("formato", "csv").param("mes", "2034-03")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jornadas-2034-03.csv\""));
+
+        byte[] comprimido = resultado.getResponse().getContentAsByteArray();
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(comprimido))) {
+            String csv = new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(3, csv.lines().count());
+        }
+    }
+
+    @Test
+    void testCsvEntrecomillaLosCamposConRetornoDeCarro() throws Exception {
+        Integer empleadoId = empleadoService.crearEmpleado(new EmpleadoDTO(null, "Con\rRetorno", "Prueba", "retorno@test.com",
+                44000001, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1))).getId();
+        jornadaLaboralService.crearJornada(jornada(empleadoId, 1, MES.plusMonths(2).atDay(5), 8));
+
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        exportacionJornadasService.exportar(MES.plusMonths(2), FormatoExportacion.CSV, salida);
+
+        assertTrue(salida.toString(StandardCharsets.UTF_8).contains(",44000001,\"Con\rRetorno Prueba\",2034-05-05,"));
+    }
+
+    @Test
+    void testFormatoDesconocidoSeRechaza() throws Exception {
+        mockMvc.perform(get("/jornada/export").param("formato", "xml").param("mes", "2034-03"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.Mensaje").value("El formato de exportación debe ser 'csv' o 'ndjson'."));
+    }
+
+    private JornadaRequestDTO jornada(Integer idEmpleado, Integer idConcepto, LocalDate fecha, Integer horas) {
+        JornadaRequestDTO requestDTO = new JornadaRequestDTO();
+        requestDTO.setIdEmpleado(idEmpleado);
+        requestDTO.setIdConcepto(idConcepto);
+        requestDTO.setFecha(fecha);
+        requestDTO.setHorasTrabajadas(horas);
+        return requestDTO;
+    }
+}
@@ -0,0 +1,38 @@
+package com.turnosrotativos.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FiltroBloomTest {
+
+    @Test
+    void testNoTieneFalsosNegativos() {
+        FiltroBloom filtro = new FiltroBloom(10000);
+        for (int i = 0; i < 10000; i++) {
+            filtro.agregar(FiltroBloom.hash(30000000 + i));
+            filtro.agregar(FiltroBloom.hash("empleado" + i + "@test.com"));
+        }
+
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(filtro.puedeContener(FiltroBloom.hash(30000000 + i)));
+            assertTrue(filtro.puedeContener(FiltroBloom.hash("empleado" + i + "@test.com")));
+        }
+    }
+
+    @Test
+    void testFalsosPositivosDentroDeLoEsperado() {
+        FiltroBloom filtro = new FiltroBloom(10000);
+        for (int i = 0; i < 10000; i++) {
+            filtro.agregar(FiltroBloom.hash(30000000 + i));
+        }
+
+        int falsosPositivos = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (filtro.puedeContener(FiltroBloom.hash(40000000 + i))) {
+                falsosPositivos++;
+            }
+        }
+        assertTrue(falsosPositivos < 2000, "Falsos positivos: " + falsosPositivos);
+    }
+}
@@ -0,0 +1,129 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.exception.ConflictException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Índice de identidad: rechazo de duplicados sin insert, consultas sin ir a la base, cambios aplicados en el
+// commit y la restricción de la tabla como respaldo para lo que el índice no vio
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:identidad",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class IndiceIdentidadTest {
+
+    @Autowired
+    private IndiceIdentidad indiceIdentidad;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private static int indice;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(indiceIdentidad.isCargado());
+    }
+
+    @Test
+    void testAltaConDocumentoOEmailRepetidoSeRechazaSinInsert() {
+        EmpleadoDTO existente = empleadoService.crearEmpleado(empleadoDTO());
+        EmpleadoDTO mismoDocumento = empleadoDTO();
+        mismoDocumento.setNroDocumento(existente.getNroDocumento());
+        EmpleadoDTO mismoEmail = empleadoDTO();
+        mismoEmail.setEmail(existente.getEmail());
+
+        statistics.clear();
+        assertEquals("Ya existe un empleado con el documento ingresado.",
+                assertThrows(ConflictException.class, () -> empleadoService.crearEmpleado(mismoDocumento)).getMessage());
+        assertEquals("Ya existe un empleado con el email ingresado.",
+                assertThrows(ConflictException.class, () -> empleadoService.crearEmpleado(mismoEmail)).getMessage());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testConsultasSinIrALaBase() {
+        EmpleadoDTO existente = empleadoService.crearEmpleado(empleadoDTO());
+        long consultas = indiceIdentidad.getDescartes() + indiceIdentidad.getConsultasIndice();
+
+        statistics.clear();
+        assertEquals(existente.getId(), indiceIdentidad.idPorDocumento(existente.getNroDocumento()).orElseThrow());
+        assertTrue(indiceIdentidad.existeEmail(existente.getEmail()));
+        assertFalse(indiceIdentidad.existeDocumento(99999999));
+        assertFalse(indiceIdentidad.existeEmail("nadie@test.com"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(consultas + 4, indiceIdentidad.getDescartes() + indiceIdentidad.getConsultasIndice());
+    }
+
+    @Test
+    void testModificacionYBajaSeAplicanEnElCommit() {
+        EmpleadoDTO empleado = empleadoService.crearEmpleado(empleadoDTO());
+        Integer documentoAnterior = empleado.getNroDocumento();
+        String emailAnterior = empleado.getEmail();
+        empleado.setNroDocumento(documentoAnterior + 500000);
+        empleado.setEmail("cambiado" + indice + "@test.com");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            empleadoService.actualizarEmpleado(empleado.getId(), empleado, null);
+            assertTrue(indiceIdentidad.existeDocumento(documentoAnterior));
+            assertFalse(indiceIdentidad.existeDocumento(empleado.getNroDocumento()));
+        });
+
+        assertFalse(indiceIdentidad.existeDocumento(documentoAnterior));
+        assertFalse(indiceIdentidad.existeEmail(emailAnterior));
+        assertTrue(indiceIdentidad.existeDocumento(empleado.getNroDocumento()));
+        assertTrue(indiceIdentidad.existeEmail(empleado.getEmail()));
+
+        empleadoService.eliminarEmpleado(empleado.getId());
+        assertFalse(indiceIdentidad.existeDocumento(empleado.getNroDocumento()));
+        assertFalse(indiceIdentidad.existeEmail(empleado.getEmail()));
+    }
+
+    @Test
+    void testLaRestriccionDeLaTablaFrenaLoQueElIndiceNoVio() {
+        EmpleadoDTO empleadoDTO = empleadoDTO();
+        jdbcTemplate.update("INSERT INTO empleados (id, nro_documento, nombre, apellido, email, fecha_nacimiento, " +
+                        "fecha_ingreso, fecha_creacion, version) VALUES (900000, ?, 'Fuera', 'Del Indice', ?, ?, ?, ?, 0)",
+                empleadoDTO.getNroDocumento(), "fuera@test.com", empleadoDTO.getFechaNacimiento(),
+                empleadoDTO.getFechaIngreso(), LocalDate.of(2020, 1, 1).atStartOfDay());
+        assertFalse(indiceIdentidad.existeDocumento(empleadoDTO.getNroDocumento()));
+
+        assertThrows(DataIntegrityViolationException.class, () -> empleadoService.crearEmpleado(empleadoDTO));
+
+        // Al volver a cargarlo desde la base el índice lo encuentra
+        indiceIdentidad.precargar();
+        assertEquals(900000, indiceIdentidad.idPorDocumento(empleadoDTO.getNroDocumento()).orElseThrow());
+        assertTrue(indiceIdentidad.existeEmail("fuera@test.com"));
+    }
+
+    private EmpleadoDTO empleadoDTO() {
+        indice++;
+        return new EmpleadoDTO(null, "Identidad", "Prueba", "identidad" + indice + "@test.com",
+                44000000 + indice, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+    }
+}
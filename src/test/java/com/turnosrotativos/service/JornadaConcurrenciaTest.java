@@ -0,0 +1,152 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.repository.AcumuladoJornadaRepository;
+import com.turnosrotativos.repository.JornadaLaboralRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Dispara altas concurrentes sobre pocos empleados y pocas fechas para forzar la competencia
+// por los mismos cupos, y verifica que ninguna regla quede violada
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class JornadaConcurrenciaTest {
+
+    private static final int EMPLEADOS = 8;
+    private static final int SOLICITUDES = 400;
+    private static final int HILOS = 32;
+
+    @Autowired
+    private JornadaLaboralService jornadaLaboralService;
+
+    @Autowired
+    private JornadaLoteService jornadaLoteService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private JornadaLaboralRepository jornadaLaboralRepository;
+
+    @Autowired
+    private AcumuladoJornadaRepository acumuladoJornadaRepository;
+
+    @Test
+    void testAltasConcurrentesRespetanLosLimites() throws Exception {
+        List<Integer> empleadoIds = crearEmpleados();
+        LocalDate lunes = LocalDate.of(2031, 3, 3);
+        Random random = new Random(42);
+        List<JornadaRequestDTO> solicitudes = new ArrayList<>();
+        for (int i = 0; i < SOLICITUDES; i++) {
+            int conceptoId = 1 + random.nextInt(3);
+            Integer horas = null;
+            if (conceptoId != 3) {
+                horas = conceptoId == 1 ? 8 : 6;
+            }
+            solicitudes.add(request(empleadoIds.get(random.nextInt(EMPLEADOS)), conceptoId, lunes.plusDays(random.nextInt(7)), horas));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger rechazadas = new AtomicInteger();
+        List<Future<?>> futuros = new ArrayList<>();
+        for (int i = 0; i < solicitudes.size(); i++) {
+            JornadaRequestDTO solicitud = solicitudes.get(i);
+            boolean enLote = i % 10 == 0;
+            futuros.add(executor.submit(() -> {
+                largada.await();
+                try {
+                    if (enLote) {
+                        jornadaLoteService.crearJornadas(List.of(solicitud));
+                    } else {
+                        jornadaLaboralService.crearJornada(solicitud);
+                    }
+                } catch (BadRequestException e) {
+                    rechazadas.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> futuro : futuros) {
+            futuro.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<JornadaLaboral> jornadas = jornadaLaboralRepository.findByEmpleadoIdInAndFechaBetween(
+                empleadoIds, lunes, lunes.plusDays(6));
+        assertFalse(jornadas.isEmpty());
+        assertTrue(rechazadas.get() > 0);
+
+        Map<String, Long> porConceptoDia = jornadas.stream()
+                .collect(Collectors.groupingBy(j -> j.getFecha() + "-" + j.getConceptoLaboral().getId(), Collectors.counting()));
+        porConceptoDia.forEach((clave, cantidad) -> assertTrue(cantidad <= 2, "Más de 2 empleados en " + clave));
+
+        Map<String, Long> duplicadas = jornadas.stream()
+                .collect(Collectors.groupingBy(j -> j.getEmpleado().getId() + "-" + j.getFecha() + "-" + j.getConceptoLaboral().getId(),
+                        Collectors.counting()));
+        duplicadas.forEach((clave, cantidad) -> assertEquals(1, cantidad, "Concepto duplicado en " + clave));
+
+        for (Integer empleadoId : empleadoIds) {
+            List<JornadaLaboral> delEmpleado = jornadas.stream().filter(j -> j.getEmpleado().getId().equals(empleadoId)).toList();
+            int horasSemana = delEmpleado.stream().mapToInt(this::horas).sum();
+            assertTrue(horasSemana <= 52);
+            delEmpleado.stream()
+                    .collect(Collectors.groupingBy(JornadaLaboral::getFecha, Collectors.summingInt(this::horas)))
+                    .forEach((fecha, horasDia) -> assertTrue(horasDia <= 14));
+            assertTrue(delEmpleado.stream().filter(j -> j.getConceptoLaboral().getId() == 3).count() <= 2);
+            assertTrue(delEmpleado.stream().filter(j -> j.getConceptoLaboral().getId() == 2).count() <= 3);
+            assertTrue(delEmpleado.stream().filter(j -> j.getConceptoLaboral().getId() == 1).count() <= 5);
+
+            // Los acumulados tienen que coincidir con lo efectivamente insertado
+            AcumuladoJornada semana = acumuladoJornadaRepository.findAll().stream()
+                    .filter(a -> a.getEmpleadoId().equals(empleadoId) && a.getTipoPeriodo() == TipoPeriodo.SEMANA
+                            && a.getInicioPeriodo().equals(lunes))
+                    .findFirst().orElse(new AcumuladoJornada(empleadoId, TipoPeriodo.SEMANA, lunes));
+            assertEquals(horasSemana, semana.getHoras());
+            assertEquals(delEmpleado.size(), semana.getDiasLibres() + semana.getTurnosExtra() + semana.getTurnosNormales());
+        }
+    }
+
+    private List<Integer> crearEmpleados() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < EMPLEADOS; i++) {
+            EmpleadoDTO empleadoDTO = new EmpleadoDTO(null, "Concurrencia", "Prueba", "concurrencia" + i + "@test.com",
+                    40000000 + i, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+            ids.add(empleadoService.crearEmpleado(empleadoDTO).getId());
+        }
+        return ids;
+    }
+
+    private JornadaRequestDTO request(Integer idEmpleado, Integer idConcepto, LocalDate fecha, Integer horas) {
+        JornadaRequestDTO requestDTO = new JornadaRequestDTO();
+        requestDTO.setIdEmpleado(idEmpleado);
+        requestDTO.setIdConcepto(idConcepto);
+        requestDTO.setFecha(fecha);
+        requestDTO.setHorasTrabajadas(horas);
+        return requestDTO;
+    }
+
+    private int horas(JornadaLaboral jornada) {
+        return jornada.getHorasTrabajadas() != null ? jornada.getHorasTrabajadas() : 0;
+    }
+}
@@ -0,0 +1,132 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.dto.JornadaResponseDTO;
+import com.turnosrotativos.dto.PaginaJornadasDTO;
+import com.turnosrotativos.dto.ResumenJornadaDTO;
+import com.turnosrotativos.model.TipoPeriodo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Verifica que listar jornadas de varios empleados y conceptos se resuelva con una única consulta,
+// sin selects adicionales por cada empleado o concepto distinto
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:consultas",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class JornadaConsultasTest {
+
+    private static final int EMPLEADOS = 5;
+    private static final LocalDate LUNES = LocalDate.of(2032, 5, 3);
+
+    @Autowired
+    private JornadaLaboralService jornadaLaboralService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private static List<Integer> documentos;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (documentos == null) {
+            documentos = new ArrayList<>();
+            for (int i = 0; i < EMPLEADOS; i++) {
+                int nroDocumento = 41000000 + i;
+                EmpleadoDTO empleadoDTO = new EmpleadoDTO(null, "Consulta", "Prueba", "consulta" + i + "@test.com",
+                        nroDocumento, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+                Integer empleadoId = empleadoService.crearEmpleado(empleadoDTO).getId();
+                documentos.add(nroDocumento);
+                jornadaLaboralService.crearJornada(request(empleadoId, 1, LUNES.plusDays(i / 2), 8));
+                jornadaLaboralService.crearJornada(request(empleadoId, 3, LUNES.plusDays(4 + i / 2), null));
+            }
+        }
+        statistics.clear();
+    }
+
+    @Test
+    void testObtenerJornadasUsaUnaSolaConsulta() {
+        PaginaJornadasDTO pagina = jornadaLaboralService.obtenerJornadas(LUNES, LUNES.plusDays(6), null, null, 100);
+
+        assertEquals(EMPLEADOS * 2, pagina.jornadas().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        JornadaResponseDTO diaLibre = pagina.jornadas().stream()
+                .filter(j -> "Día Libre".equals(j.getConcepto())).findFirst().orElseThrow();
+        assertNull(diaLibre.getHorasTrabajadas());
+        assertEquals("Consulta Prueba", diaLibre.getNombreCompleto());
+    }
+
+    // El documento se verifica en IndiceIdentidad, sin otra consulta
+    @Test
+    void testObtenerJornadasPorDocumentoUsaUnaSolaConsulta() {
+        PaginaJornadasDTO pagina = jornadaLaboralService.obtenerJornadas(LUNES, LUNES.plusDays(6), documentos.get(0), null, 100);
+
+        assertEquals(2, pagina.jornadas().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testExportarJornadasUsaUnaSolaConsulta() throws Exception {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        jornadaLaboralService.exportarJornadasNdjson(LUNES, LUNES.plusDays(6), null, salida);
+
+        assertEquals(EMPLEADOS * 2, salida.toString(StandardCharsets.UTF_8).lines().count());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testResumenSemanalSeAgregaEnUnaSolaConsulta() {
+        List<ResumenJornadaDTO> resumen = jornadaLaboralService.obtenerResumen(LUNES, LUNES.plusDays(6), null, TipoPeriodo.SEMANA);
+
+        assertEquals(EMPLEADOS * 2, resumen.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        ResumenJornadaDTO turnoNormal = resumen.get(0);
+        assertEquals(documentos.get(0), turnoNormal.nroDocumento());
+        assertEquals(LUNES, turnoNormal.inicioPeriodo());
+        assertEquals("Turno Normal", turnoNormal.concepto());
+        assertEquals(1, turnoNormal.cantidadJornadas());
+        assertEquals(8, turnoNormal.horasTrabajadas());
+        assertEquals(0, resumen.get(1).horasTrabajadas());
+    }
+
+    @Test
+    void testResumenMensualPorDocumento() {
+        List<ResumenJornadaDTO> resumen = jornadaLaboralService.obtenerResumen(LUNES.withDayOfMonth(1),
+                LUNES.withDayOfMonth(31), documentos.get(1), TipoPeriodo.MES);
+
+        assertEquals(2, resumen.size());
+        assertTrue(resumen.stream().allMatch(r -> r.inicioPeriodo().equals(LUNES.withDayOfMonth(1))
+                && r.nroDocumento().equals(documentos.get(1)) && r.periodo() == TipoPeriodo.MES));
+    }
+
+    private JornadaRequestDTO request(Integer idEmpleado, Integer idConcepto, LocalDate fecha, Integer horas) {
+        JornadaRequestDTO requestDTO = new JornadaRequestDTO();
+        requestDTO.setIdEmpleado(idEmpleado);
+        requestDTO.setIdConcepto(idConcepto);
+        requestDTO.setFecha(fecha);
+        requestDTO.setHorasTrabajadas(horas);
+        return requestDTO;
+    }
+}
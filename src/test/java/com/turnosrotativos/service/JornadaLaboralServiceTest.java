@@ -1,13 +1,17 @@
 package com.turnosrotativos.service;
 
+import com.turnosrotativos.dto.CursorJornada;
 import com.turnosrotativos.dto.JornadaRequestDTO;
 import com.turnosrotativos.dto.JornadaResponseDTO;
+import com.turnosrotativos.dto.PaginaJornadasDTO;
+import com.turnosrotativos.exception.BadRequestException;
 import com.turnosrotativos.exception.NotFoundException;
+import com.turnosrotativos.model.AcumuladoJornada;
 import com.turnosrotativos.model.ConceptoLaboral;
 import com.turnosrotativos.model.Empleado;
 import com.turnosrotativos.model.JornadaLaboral;
-import com.turnosrotativos.repository.ConceptoLaboralRepository;
-import com.turnosrotativos.repository.EmpleadoRepository;
+import com.turnosrotativos.model.TipoPeriodo;
+import com.turnosrotativos.repository.FiltroJornadas;
 import com.turnosrotativos.repository.JornadaLaboralRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,14 +34,26 @@ class JornadaLaboralServiceTest {
     private JornadaLaboralRepository jornadaLaboralRepository;
 
     @Mock
-    private EmpleadoRepository empleadoRepository;
+    private RegistroEmpleados registroEmpleados;
 
     @Mock
-    private ConceptoLaboralRepository conceptoLaboralRepository;
+    private IndiceIdentidad indiceIdentidad;
+
+    @Mock
+    private RegistroConceptos registroConceptos;
 
     @Mock
     private ValidadorService validadorService;
 
+    @Mock
+    private AcumuladoJornadaService acumuladoJornadaService;
+
+    @Mock
+    private BloqueoJornadas bloqueoJornadas;
+
+    @Mock
+    private CalendarioOcupacion calendarioOcupacion;
+
     private JornadaRequestDTO jornadaRequestDTO;
     private Empleado empleado;
     private ConceptoLaboral conceptoLaboral;
@@ -72,18 +88,30 @@ class JornadaLaboralServiceTest {
 
     @Test
     void testCrearJornadaExitosa() {
-        when(empleadoRepository.findById(1L)).thenReturn(Optional.of(empleado));
-        when(conceptoLaboralRepository.findById(1)).thenReturn(Optional.of(conceptoLaboral));
+        when(registroEmpleados.obtener(1)).thenReturn(Optional.of(empleado));
+        when(registroConceptos.obtener(1)).thenReturn(Optional.of(conceptoLaboral));
+        AcumuladoJornadaService.Acumulados acumulados = new AcumuladoJornadaService.Acumulados(
+                new AcumuladoJornada(1, TipoPeriodo.SEMANA, AcumuladoJornada.inicioSemana(jornadaRequestDTO.getFecha())),
+                new AcumuladoJornada(1, TipoPeriodo.MES, AcumuladoJornada.inicioMes(jornadaRequestDTO.getFecha())));
+        when(acumuladoJornadaService.obtenerParaValidacion(1, jornadaRequestDTO.getFecha())).thenReturn(acumulados);
+        when(calendarioOcupacion.ocupacion(1, jornadaRequestDTO.getFecha(), 1, acumulados.semana()))
+                .thenReturn(new CalendarioOcupacion.Ocupacion(0, false));
         when(jornadaLaboralRepository.save(any(JornadaLaboral.class))).thenReturn(jornadaLaboral);
         JornadaResponseDTO response = jornadaLaboralService.crearJornada(jornadaRequestDTO);
         assertNotNull(response);
         verify(validadorService).validarHorasTrabajadas(conceptoLaboral, 8);
+        verify(bloqueoJornadas).bloquear(1, jornadaRequestDTO.getFecha(), 1);
+        verify(validadorService).validarJornada(eq(jornadaRequestDTO), eq(conceptoLaboral), any(SnapshotValidacion.class));
+        verify(calendarioOcupacion).ocupacion(1, jornadaRequestDTO.getFecha(), 1, acumulados.semana());
+        verify(jornadaLaboralRepository).countByFechaAndConceptoLaboralId(jornadaRequestDTO.getFecha(), 1);
         verify(jornadaLaboralRepository).save(any(JornadaLaboral.class));
+        verify(acumuladoJornadaService).registrar(acumulados, jornadaLaboral);
+        verify(calendarioOcupacion).registrar(List.of(jornadaLaboral));
     }
 
     @Test
     void testCrearJornadaEmpleadoNoEncontrado() {
-        when(empleadoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(registroEmpleados.obtener(1)).thenReturn(Optional.empty());
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
             jornadaLaboralService.crearJornada(jornadaRequestDTO));
         assertEquals("No existe el empleado ingresado.", exception.getMessage());
@@ -91,8 +119,8 @@ class JornadaLaboralServiceTest {
 
     @Test
     void testCrearJornadaConceptoNoEncontrado() {
-        when(empleadoRepository.findById(1L)).thenReturn(Optional.of(empleado));
-        when(conceptoLaboralRepository.findById(1)).thenReturn(Optional.empty());
+        when(registroEmpleados.obtener(1)).thenReturn(Optional.of(empleado));
+        when(registroConceptos.obtener(1)).thenReturn(Optional.empty());
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
             jornadaLaboralService.crearJornada(jornadaRequestDTO));
         assertEquals("No existe el concepto ingresado.", exception.getMessage());
@@ -100,30 +128,67 @@ class JornadaLaboralServiceTest {
 
     @Test
     void testObtenerJornadasSinDocumento() {
-        when(jornadaLaboralRepository.findByFechaBetween(any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(Collections.singletonList(jornadaLaboral));
-        List<JornadaResponseDTO> response = jornadaLaboralService.obtenerJornadas(LocalDate.now().minusDays(1), LocalDate.now(), null);
+        when(jornadaLaboralRepository.buscarPagina(any(FiltroJornadas.class), isNull(), isNull(), eq(101)))
+                .thenReturn(Collections.singletonList(JornadaResponseDTO.fromEntity(jornadaLaboral)));
+        PaginaJornadasDTO response = jornadaLaboralService.obtenerJornadas(LocalDate.now().minusDays(1), LocalDate.now(), null, null, 100);
         assertNotNull(response);
-        assertFalse(response.isEmpty());
-        verify(jornadaLaboralRepository).findByFechaBetween(any(LocalDate.class), any(LocalDate.class));
+        assertFalse(response.jornadas().isEmpty());
+        assertNull(response.siguienteCursor());
+        verify(jornadaLaboralRepository).buscarPagina(eq(new FiltroJornadas(null, LocalDate.now().minusDays(1), LocalDate.now())), isNull(), isNull(), eq(101));
+        verify(indiceIdentidad, never()).existeDocumento(any());
     }
 
     @Test
     void testObtenerJornadasConDocumento() {
-        when(empleadoRepository.existsByNroDocumento(30415654)).thenReturn(true);
-        when(jornadaLaboralRepository.findByEmpleadoNroDocumentoAndFechaBetween(eq(30415654), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(Collections.singletonList(jornadaLaboral));
-        List<JornadaResponseDTO> response = jornadaLaboralService.obtenerJornadas(LocalDate.now().minusDays(1), LocalDate.now(), 30415654);
+        when(indiceIdentidad.existeDocumento(30415654)).thenReturn(true);
+        when(jornadaLaboralRepository.buscarPagina(any(FiltroJornadas.class), isNull(), isNull(), eq(101)))
+                .thenReturn(Collections.singletonList(JornadaResponseDTO.fromEntity(jornadaLaboral)));
+        PaginaJornadasDTO response = jornadaLaboralService.obtenerJornadas(LocalDate.now().minusDays(1), LocalDate.now(), 30415654, null, 100);
         assertNotNull(response);
-        assertFalse(response.isEmpty());
-        verify(jornadaLaboralRepository).findByEmpleadoNroDocumentoAndFechaBetween(eq(30415654), any(LocalDate.class), any(LocalDate.class));
+        assertFalse(response.jornadas().isEmpty());
+        verify(jornadaLaboralRepository).buscarPagina(eq(new FiltroJornadas(30415654, LocalDate.now().minusDays(1), LocalDate.now())), isNull(), isNull(), eq(101));
     }
 
     @Test
     void testObtenerJornadasEmpleadoNoEncontrado() {
-        when(empleadoRepository.existsByNroDocumento(30415654)).thenReturn(false);
+        when(indiceIdentidad.existeDocumento(30415654)).thenReturn(false);
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
-            jornadaLaboralService.obtenerJornadas(LocalDate.now().minusDays(1), LocalDate.now(), 30415654));
+            jornadaLaboralService.obtenerJornadas(LocalDate.now().minusDays(1), LocalDate.now(), 30415654, null, 100));
         assertEquals("No existe un empleado con el número de documento ingresado.", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testObtenerJornadasConSiguientePagina() {
+        jornadaLaboral.setId(7);
+        JornadaLaboral siguiente = new JornadaLaboral();
+        siguiente.setId(8);
+        siguiente.setEmpleado(empleado);
+        siguiente.setConceptoLaboral(conceptoLaboral);
+        siguiente.setFecha(jornadaLaboral.getFecha());
+        when(jornadaLaboralRepository.buscarPagina(any(FiltroJornadas.class), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(JornadaResponseDTO.fromEntity(jornadaLaboral), JornadaResponseDTO.fromEntity(siguiente)));
+        PaginaJornadasDTO response = jornadaLaboralService.obtenerJornadas(null, null, null, null, 1);
+        assertEquals(1, response.jornadas().size());
+        assertEquals(new CursorJornada(jornadaLaboral.getFecha(), 7), CursorJornada.decodificar(response.siguienteCursor()));
+
+        when(jornadaLaboralRepository.buscarPagina(any(FiltroJornadas.class), eq(jornadaLaboral.getFecha()), eq(7), eq(2)))
+                .thenReturn(List.of(JornadaResponseDTO.fromEntity(siguiente)));
+        jornadaLaboralService.obtenerJornadas(null, null, null, response.siguienteCursor(), 1);
+        verify(jornadaLaboralRepository).buscarPagina(any(FiltroJornadas.class), eq(jornadaLaboral.getFecha()), eq(7), eq(2));
+    }
+
+    @Test
+    void testObtenerJornadasCursorInvalido() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () ->
+            jornadaLaboralService.obtenerJornadas(null, null, null, "no-es-un-cursor", 100));
+        assertEquals("El cursor ingresado no es válido.", exception.getMessage());
+    }
+
+    @Test
+    void testObtenerResumenSinRangoDeFechas() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () ->
+            jornadaLaboralService.obtenerResumen(null, LocalDate.now(), null, TipoPeriodo.SEMANA));
+        assertEquals("Los campos ‘fechaDesde’ y ‘fechaHasta’ son obligatorios para el resumen.", exception.getMessage());
+        verifyNoInteractions(jornadaLaboralRepository);
+    }
+}
@@ -0,0 +1,163 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.JornadaLoteResultadoDTO;
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoConcepto;
+import com.turnosrotativos.repository.AcumuladoJornadaRepository;
+import com.turnosrotativos.repository.JornadaLaboralRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JornadaLoteServiceTest {
+
+    @InjectMocks
+    private JornadaLoteService jornadaLoteService;
+
+    @Mock
+    private JornadaLaboralRepository jornadaLaboralRepository;
+
+    @Mock
+    private RegistroEmpleados registroEmpleados;
+
+    @Mock
+    private RegistroConceptos registroConceptos;
+
+    @Mock
+    private AcumuladoJornadaRepository acumuladoJornadaRepository;
+
+    @Mock
+    private BloqueoJornadas bloqueoJornadas;
+
+    @Mock
+    private CalendarioOcupacion calendarioOcupacion;
+
+    @Spy
+    private ValidadorService validadorService = new ValidadorService(new SimpleMeterRegistry());
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private Empleado empleado1, empleado2, empleado3;
+    private ConceptoLaboral turnoNormal;
+    private LocalDate fecha;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        empleado1 = empleado(1);
+        empleado2 = empleado(2);
+        empleado3 = empleado(3);
+
+        turnoNormal = new ConceptoLaboral();
+        turnoNormal.setId(1);
+        turnoNormal.setNombre("Turno Normal");
+        turnoNormal.setHsMinimo(6);
+        turnoNormal.setHsMaximo(8);
+        turnoNormal.setLaborable(true);
+        turnoNormal.setTipo(TipoConcepto.TURNO_NORMAL);
+        turnoNormal.setMaxEmpleadosDia(2);
+        turnoNormal.setMaxSemanal(5);
+
+        fecha = LocalDate.of(2024, 5, 6);
+        when(registroConceptos.conceptosPorId()).thenReturn(Map.of(1, turnoNormal));
+        when(registroEmpleados.obtenerTodos(anyCollection())).thenReturn(Map.of(1, empleado1, 2, empleado2, 3, empleado3));
+        when(jornadaLaboralRepository.findByEmpleadoIdInAndFechaBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Collections.emptyList());
+        when(jornadaLaboralRepository.contarPorFechaYConcepto(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Collections.emptyList());
+        when(acumuladoJornadaRepository.findByEmpleadoIdInAndInicioPeriodoBetween(anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Collections.emptyList());
+        when(jornadaLaboralRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void testFilasDelMismoLoteSeVenEntreSi() {
+        List<JornadaLoteResultadoDTO> resultados = jornadaLoteService.crearJornadas(List.of(
+                request(1, fecha, 8),
+                request(2, fecha, 8),
+                request(3, fecha, 8)));
+
+        assertEquals(201, resultados.get(0).getStatus());
+        assertEquals(201, resultados.get(1).getStatus());
+        assertEquals(400, resultados.get(2).getStatus());
+        assertEquals("Ya existen 2 empleados registrados para este concepto en la fecha ingresada.", resultados.get(2).getMensaje());
+        verify(jornadaLaboralRepository).saveAll(argThat(jornadas -> ((List<JornadaLaboral>) jornadas).size() == 2));
+        verify(calendarioOcupacion).registrar(argThat(jornadas -> jornadas.size() == 2));
+    }
+
+    @Test
+    void testHorasSemanalesAcumuladasEnElLote() {
+        // 6 turnos normales de 8 horas en la misma semana: el sexto supera los 5 turnos normales
+        List<JornadaRequestDTO> lote = List.of(
+                request(1, fecha, 8), request(1, fecha.plusDays(1), 8), request(1, fecha.plusDays(2), 8),
+                request(1, fecha.plusDays(3), 8), request(1, fecha.plusDays(4), 8), request(1, fecha.plusDays(5), 8));
+
+        List<JornadaLoteResultadoDTO> resultados = jornadaLoteService.crearJornadas(lote);
+
+        assertEquals(5, resultados.stream().filter(r -> r.getStatus() == 201).count());
+        assertEquals("El empleado ingresado ya cuenta con 5 turnos normales esta semana.", resultados.get(5).getMensaje());
+        // Se guardan los acumulados de la semana y el mes con las 5 jornadas aceptadas
+        verify(acumuladoJornadaRepository).saveAll(argThat(acumulados -> {
+            List<AcumuladoJornada> lista = new ArrayList<>();
+            acumulados.forEach(lista::add);
+            return lista.size() == 2 && lista.stream().allMatch(a -> a.getHoras() == 40 && a.getTurnosNormales() == 5);
+        }));
+    }
+
+    @Test
+    void testFilaInvalidaYEmpleadoInexistente() {
+        JornadaRequestDTO sinFecha = request(1, null, 8);
+
+        List<JornadaLoteResultadoDTO> resultados = jornadaLoteService.crearJornadas(List.of(sinFecha, request(9, fecha, 8)));
+
+        assertEquals(400, resultados.get(0).getStatus());
+        assertEquals("fecha es obligatoria", resultados.get(0).getMensaje());
+        assertEquals(404, resultados.get(1).getStatus());
+        assertEquals("No existe el empleado ingresado.", resultados.get(1).getMensaje());
+    }
+
+    @Test
+    void testLoteVacio() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () ->
+                jornadaLoteService.crearJornadas(List.of()));
+        assertEquals("El lote debe contener al menos una jornada.", exception.getMessage());
+    }
+
+    private Empleado empleado(Integer id) {
+        Empleado empleado = new Empleado();
+        empleado.setId(id);
+        empleado.setNombre("Empleado");
+        empleado.setApellido("Prueba");
+        return empleado;
+    }
+
+    private JornadaRequestDTO request(Integer idEmpleado, LocalDate fecha, Integer horas) {
+        JornadaRequestDTO requestDTO = new JornadaRequestDTO();
+        requestDTO.setIdEmpleado(idEmpleado);
+        requestDTO.setIdConcepto(1);
+        requestDTO.setFecha(fecha);
+        requestDTO.setHorasTrabajadas(horas);
+        return requestDTO;
+    }
+}
@@ -0,0 +1,51 @@
+package com.turnosrotativos.service;
+
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapaEnterosTest {
+
+    @Test
+    void testPonerReemplazarYQuitar() {
+        MapaEnteros mapa = new MapaEnteros();
+        mapa.poner(30415654, 1);
+        mapa.poner(30415655, 2);
+        mapa.poner(30415654, 3);
+
+        assertEquals(2, mapa.tamanio());
+        assertEquals(3, mapa.obtener(30415654, -1));
+        assertEquals(-1, mapa.obtener(1, -1));
+
+        mapa.quitar(30415654);
+        assertFalse(mapa.contiene(30415654));
+        assertEquals(2, mapa.obtener(30415655, -1));
+        assertEquals(1, mapa.tamanio());
+    }
+
+    // Altas y bajas al azar, comparadas contra un HashMap, para cubrir redimensionados y claves borradas
+    @Test
+    void testCoincideConHashMapConAltasYBajasAlAzar() {
+        MapaEnteros mapa = new MapaEnteros();
+        Map<Integer, Integer> esperado = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200000; i++) {
+            int clave = 20000000 + random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                mapa.quitar(clave);
+                esperado.remove(clave);
+            } else {
+                mapa.poner(clave, i);
+                esperado.put(clave, i);
+            }
+        }
+
+        assertEquals(esperado.size(), mapa.tamanio());
+        for (int clave = 20000000; clave < 20005000; clave++) {
+            assertEquals(esperado.getOrDefault(clave, -1), mapa.obtener(clave, -1));
+        }
+    }
+}
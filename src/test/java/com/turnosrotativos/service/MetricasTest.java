@@ -0,0 +1,59 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Verifica que los timers de controladores, reglas y repositorios, y el conteo de consultas por
+// solicitud, queden expuestos en /actuator/prometheus
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metricas",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricasTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Test
+    void testMetricasExpuestasEnPrometheus() throws Exception {
+        Integer empleadoId = empleadoService.crearEmpleado(new EmpleadoDTO(null, "Metrica", "Prueba", "metrica@test.com",
+                42000000, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1))).getId();
+        String jornada = "{\"idEmpleado\":" + empleadoId + ",\"idConcepto\":1,\"fecha\":\"2033-02-07\",\"horasTrabajadas\":8}";
+        String extra = "{\"idEmpleado\":" + empleadoId + ",\"idConcepto\":2,\"fecha\":\"2033-02-07\",\"horasTrabajadas\":6}";
+
+        mockMvc.perform(post("/jornada").contentType(MediaType.APPLICATION_JSON).content(jornada)).andExpect(status().isCreated());
+        mockMvc.perform(post("/jornada").contentType(MediaType.APPLICATION_JSON).content(extra)).andExpect(status().isCreated());
+        mockMvc.perform(post("/jornada").contentType(MediaType.APPLICATION_JSON).content(extra)).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/jornada").param("nroDocumento", "42000000")).andExpect(status().isOk());
+        mockMvc.perform(get("/concepto-laboral")).andExpect(status().isOk());
+
+        String metricas = mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(metricas.contains("turnos_controlador_seconds_count{class=\"com.turnosrotativos.controller.JornadaLaboralController\""));
+        assertTrue(metricas.contains("method=\"obtenerConceptosLaborales\""));
+        assertTrue(metricas.contains("turnos_validacion_rechazos_total{regla=\"horas_diarias_semanales\"} 1.0"));
+        assertTrue(metricas.contains("turnos_validacion_regla_seconds_count{regla=\"cupo_concepto\"} 2"));
+        assertTrue(metricas.contains("turnos_http_consultas_count{method=\"GET\",uri=\"/jornada\"} 1"));
+        assertTrue(metricas.contains("spring_data_repository_invocations_seconds_count"));
+        assertTrue(metricas.contains("hibernate_statements_total"));
+        assertTrue(metricas.contains("turnos_conceptos_registro_total{resultado=\"acierto\"}"));
+    }
+}
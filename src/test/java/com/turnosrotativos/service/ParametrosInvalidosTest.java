@@ -0,0 +1,78 @@
+package com.turnosrotativos.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Parámetros que no se pueden convertir: 400 con el nombre del parámetro y el formato esperado
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:parametros",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class ParametrosInvalidosTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testPaginaNoNumerica() throws Exception {
+        esperar(get("/empleado").param("pagina", "abc"), "El campo ‘pagina’ solo puede contener números enteros.");
+    }
+
+    @Test
+    void testTamanioNoNumerico() throws Exception {
+        esperar(get("/empleado").param("tamanio", "x"), "El campo ‘tamanio’ solo puede contener números enteros.");
+    }
+
+    @Test
+    void testFechaIngresoConFormatoInvalido() throws Exception {
+        esperar(get("/empleado").param("fechaIngresoDesde", "bad"), "El campo ‘fechaIngresoDesde’ debe respetar el formato yyyy-mm-dd.");
+    }
+
+    @Test
+    void testLimiteNoNumerico() throws Exception {
+        esperar(get("/jornada").param("limite", "x"), "El campo ‘limite’ solo puede contener números enteros.");
+    }
+
+    @Test
+    void testConceptoDeDisponibilidadNoNumerico() throws Exception {
+        esperar(get("/jornada/disponibilidad").param("fecha", "2024-05-15").param("concepto", "x"),
+                "El campo ‘concepto’ solo puede contener números enteros.");
+    }
+
+    @Test
+    void testAgrupacionInexistente() throws Exception {
+        esperar(get("/jornada/resumen").param("agrupacion", "DIA"), "El campo ‘agrupacion’ debe ser uno de: SEMANA, MES.");
+    }
+
+    @Test
+    void testMesDeExportacionConFormatoInvalido() throws Exception {
+        esperar(get("/jornada/export").param("mes", "2024-13"), "El campo ‘mes’ debe respetar el formato yyyy-mm.");
+    }
+
+    @Test
+    void testMesDeRotacionConFormatoInvalido() throws Exception {
+        esperar(post("/rotacion/generar").param("mes", "mayo"), "El campo ‘mes’ debe respetar el formato yyyy-mm.");
+    }
+
+    @Test
+    void testNroDocumentoYFechasConservanSuMensaje() throws Exception {
+        esperar(get("/jornada").param("nroDocumento", "abc"), "El campo ‘nroDocumento’ solo puede contener números enteros.");
+        esperar(get("/jornada").param("fechaDesde", "15/05/2024"), "Los campos ‘fechaDesde’ y ‘fechaHasta’ deben respetar el formato yyyy-mm-dd.");
+    }
+
+    private void esperar(RequestBuilder solicitud, String mensaje) throws Exception {
+        mockMvc.perform(solicitud)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.Mensaje").value(mensaje));
+    }
+}
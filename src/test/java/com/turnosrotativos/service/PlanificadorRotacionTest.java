@@ -0,0 +1,134 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.TipoConcepto;
+import com.turnosrotativos.repository.ConteoConceptoDia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanificadorRotacionTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 7, 1);
+    private static final LocalDate FIN = LocalDate.of(2024, 7, 31);
+
+    private final ValidadorService validadorService = new ValidadorService(new SimpleMeterRegistry());
+    private ConceptoLaboral turnoNormal, diaLibre, turnoExtra;
+
+    @BeforeEach
+    void setUp() {
+        turnoNormal = concepto(1, TipoConcepto.TURNO_NORMAL, 6, 8, 5, null);
+        turnoExtra = concepto(2, TipoConcepto.TURNO_EXTRA, 2, 6, 3, null);
+        diaLibre = concepto(3, TipoConcepto.DIA_LIBRE, null, null, 2, 5);
+    }
+
+    @Test
+    void testLugaresDelDiaSeRepartenEntreParticionesSinPasarseDelTope() {
+        turnoNormal.setMaxEmpleadosDia(2);
+        ConteoConceptoDia ocupado = conteo(INICIO.plusDays(3), 1, 1L);
+        PlanificadorRotacion planificador = new PlanificadorRotacion(validadorService, List.of(turnoNormal), INICIO, FIN, 3,
+                List.of(ocupado));
+
+        for (int dia = 0; dia < 31; dia++) {
+            int total = 0;
+            for (int particion = 0; particion < 3; particion++) {
+                total += planificador.lugares(particion, dia, 0);
+            }
+            assertEquals(dia == 3 ? 1 : 2, total);
+        }
+    }
+
+    @Test
+    void testSinTopeDeEmpleadosCadaEmpleadoRespetaSusLimites() {
+        List<ConceptoLaboral> conceptos = List.of(turnoNormal, diaLibre, turnoExtra);
+        PlanificadorRotacion planificador = new PlanificadorRotacion(validadorService, conceptos, INICIO, FIN, 1, List.of());
+        List<Empleado> empleados = List.of(empleado(1, LocalDate.of(2020, 1, 1)), empleado(2, LocalDate.of(2024, 7, 15)));
+
+        List<JornadaRequestDTO> plan = planificador.planificar(0, empleados, List.of(), List.of());
+
+        List<JornadaRequestDTO> primero = delEmpleado(plan, 1);
+        // Lunes 1/7: primera semana con 5 turnos normales y 2 días libres
+        assertEquals(List.of(1, 1, 1, 1, 1, 3, 3), primero.subList(0, 7).stream().map(JornadaRequestDTO::getIdConcepto).toList());
+        assertTrue(primero.stream().mapToInt(j -> horas(j)).sum() <= 190);
+        assertTrue(primero.stream().filter(j -> j.getIdConcepto() == 3).count() <= 5);
+        for (int semana = 0; semana < 5; semana++) {
+            LocalDate lunes = INICIO.plusWeeks(semana);
+            List<JornadaRequestDTO> jornadasSemana = primero.stream()
+                    .filter(j -> !j.getFecha().isBefore(lunes) && j.getFecha().isBefore(lunes.plusWeeks(1))).toList();
+            assertTrue(jornadasSemana.stream().mapToInt(this::horas).sum() <= 52);
+            assertTrue(jornadasSemana.stream().filter(j -> j.getIdConcepto() == 1).count() <= 5);
+            assertTrue(jornadasSemana.stream().filter(j -> j.getIdConcepto() == 2).count() <= 3);
+        }
+        // Quien ingresa a mitad de mes recién tiene jornadas desde su fecha de ingreso
+        assertTrue(delEmpleado(plan, 2).stream().noneMatch(j -> j.getFecha().isBefore(LocalDate.of(2024, 7, 15))));
+        assertFalse(delEmpleado(plan, 2).isEmpty());
+    }
+
+    @Test
+    void testConTopeDeEmpleadosLosLugaresRotanEntreEmpleados() {
+        turnoNormal.setMaxEmpleadosDia(2);
+        PlanificadorRotacion planificador = new PlanificadorRotacion(validadorService, List.of(turnoNormal), INICIO, FIN, 1, List.of());
+        List<Empleado> empleados = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            empleados.add(empleado(i, LocalDate.of(2020, 1, 1)));
+        }
+
+        List<JornadaRequestDTO> plan = planificador.planificar(0, empleados, List.of(), List.of());
+
+        assertEquals(62, plan.size());
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(delEmpleado(plan, i).size() >= 15);
+        }
+    }
+
+    private List<JornadaRequestDTO> delEmpleado(List<JornadaRequestDTO> plan, int empleadoId) {
+        return plan.stream().filter(j -> j.getIdEmpleado() == empleadoId).toList();
+    }
+
+    private int horas(JornadaRequestDTO jornada) {
+        return jornada.getHorasTrabajadas() != null ? jornada.getHorasTrabajadas() : 0;
+    }
+
+    private Empleado empleado(int id, LocalDate fechaIngreso) {
+        Empleado empleado = new Empleado();
+        empleado.setId(id);
+        empleado.setFechaIngreso(fechaIngreso);
+        return empleado;
+    }
+
+    private ConceptoLaboral concepto(int id, TipoConcepto tipo, Integer hsMinimo, Integer hsMaximo, Integer maxSemanal, Integer maxMensual) {
+        ConceptoLaboral concepto = new ConceptoLaboral();
+        concepto.setId(id);
+        concepto.setNombre(tipo.name());
+        concepto.setTipo(tipo);
+        concepto.setHsMinimo(hsMinimo);
+        concepto.setHsMaximo(hsMaximo);
+        concepto.setLaborable(tipo != TipoConcepto.DIA_LIBRE);
+        concepto.setMaxSemanal(maxSemanal);
+        concepto.setMaxMensual(maxMensual);
+        return concepto;
+    }
+
+    private ConteoConceptoDia conteo(LocalDate fecha, Integer conceptoId, Long cantidad) {
+        return new ConteoConceptoDia() {
+            public LocalDate getFecha() {
+                return fecha;
+            }
+
+            public Integer getConceptoId() {
+                return conceptoId;
+            }
+
+            public Long getCantidad() {
+                return cantidad;
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.repository.ConceptoLaboralRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RegistroConceptosTest {
+
+    @Mock
+    private ConceptoLaboralRepository conceptoLaboralRepository;
+
+    private RegistroConceptos registroConceptos;
+    private ConceptoLaboral turnoNormal;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        turnoNormal = new ConceptoLaboral();
+        turnoNormal.setId(1);
+        turnoNormal.setNombre("Turno Normal");
+        turnoNormal.setHsMinimo(6);
+        turnoNormal.setHsMaximo(8);
+        turnoNormal.setLaborable(true);
+        when(conceptoLaboralRepository.findAll()).thenReturn(List.of(turnoNormal));
+        registroConceptos = new RegistroConceptos(conceptoLaboralRepository);
+    }
+
+    @Test
+    void testPrimeraConsultaCargaYLasSiguientesSonAciertos() {
+        assertTrue(registroConceptos.obtener(1).isPresent());
+        assertTrue(registroConceptos.obtener(1).isPresent());
+        assertTrue(registroConceptos.obtener(4).isEmpty());
+
+        verify(conceptoLaboralRepository, times(1)).findAll();
+        assertEquals(1, registroConceptos.getFallos());
+        assertEquals(2, registroConceptos.getAciertos());
+    }
+
+    @Test
+    void testInvalidarFuerzaLaRecarga() {
+        registroConceptos.precargar();
+        turnoNormal.setNombre("Turno Diurno");
+        assertEquals("Turno Normal", registroConceptos.obtener(1).orElseThrow().getNombre());
+
+        registroConceptos.invalidar();
+
+        assertEquals("Turno Diurno", registroConceptos.obtener(1).orElseThrow().getNombre());
+        verify(conceptoLaboralRepository, times(2)).findAll();
+        assertEquals(1, registroConceptos.getFallos());
+    }
+
+    @Test
+    void testUnaInvalidacionDuranteLaCargaNoDejaPublicadoLoLeido() {
+        // El cambio se confirma mientras la carga ya leyó los conceptos anteriores
+        when(conceptoLaboralRepository.findAll()).thenAnswer(invocation -> {
+            registroConceptos.invalidar();
+            return List.of(turnoNormal);
+        }).thenReturn(List.of(turnoNormal));
+        assertEquals("Turno Normal", registroConceptos.obtener(1).orElseThrow().getNombre());
+
+        turnoNormal.setNombre("Turno Diurno");
+
+        assertEquals("Turno Diurno", registroConceptos.obtener(1).orElseThrow().getNombre());
+        verify(conceptoLaboralRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testVersionCambiaAlRecargarUnConceptoModificado() {
+        turnoNormal.setVersion(0);
+        String version = registroConceptos.version();
+        assertEquals(version, registroConceptos.version());
+
+        turnoNormal.setVersion(1);
+        registroConceptos.invalidar();
+
+        assertNotEquals(version, registroConceptos.version());
+    }
+
+    @Test
+    void testConceptosNoSePuedenAgregarNiQuitar() {
+        assertThrows(UnsupportedOperationException.class, () -> registroConceptos.conceptosPorId().remove(1));
+    }
+}
@@ -0,0 +1,132 @@
+package com.turnosrotativos.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.JornadaRequestDTO;
+import com.turnosrotativos.exception.NotFoundException;
+import com.turnosrotativos.model.Empleado;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Caché de empleados: las altas de jornadas no vuelven a cargar al empleado, y las modificaciones y bajas
+// lo sacan de la caché recién en el commit
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:registro-empleados",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class RegistroEmpleadosTest {
+
+    private static final LocalDate LUNES = LocalDate.of(2035, 1, 1);
+
+    @Autowired
+    private RegistroEmpleados registroEmpleados;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private JornadaLaboralService jornadaLaboralService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private static int indice;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        registroEmpleados.invalidar();
+        statistics.clear();
+    }
+
+    @Test
+    void testLasAltasDeJornadasCarganAlEmpleadoUnaSolaVez() {
+        Integer empleadoId = empleado();
+        CacheStats antes = registroEmpleados.getEstadisticas();
+
+        for (int dia = 0; dia < 3; dia++) {
+            jornadaLaboralService.crearJornada(request(empleadoId, LUNES.plusDays(dia)));
+        }
+
+        CacheStats estadisticas = registroEmpleados.getEstadisticas().minus(antes);
+        assertEquals(1, statistics.getEntityStatistics(Empleado.class.getName()).getLoadCount());
+        assertEquals(2, estadisticas.hitCount());
+        assertEquals(1, estadisticas.missCount());
+    }
+
+    @Test
+    void testActualizarSacaAlEmpleadoRecienEnElCommit() {
+        Integer empleadoId = empleado();
+        EmpleadoDTO empleadoDTO = empleadoService.obtenerEmpleadoPorId(empleadoId);
+
+        empleadoDTO.setNombre("Cambiado");
+        transactionTemplate.executeWithoutResult(status -> {
+            empleadoService.actualizarEmpleado(empleadoId, empleadoDTO, null);
+            assertTrue(registroEmpleados.enMemoria(empleadoId).isPresent());
+        });
+
+        assertTrue(registroEmpleados.enMemoria(empleadoId).isEmpty());
+        assertEquals("Cambiado", empleadoService.obtenerEmpleadoPorId(empleadoId).getNombre());
+        assertEquals(1, empleadoService.obtenerVersionEmpleado(empleadoId));
+    }
+
+    @Test
+    void testEliminarSacaAlEmpleado() {
+        Integer empleadoId = empleado();
+        empleadoService.obtenerEmpleadoPorId(empleadoId);
+
+        empleadoService.eliminarEmpleado(empleadoId);
+
+        assertTrue(registroEmpleados.enMemoria(empleadoId).isEmpty());
+        assertThrows(NotFoundException.class, () -> empleadoService.obtenerEmpleadoPorId(empleadoId));
+    }
+
+    @Test
+    void testMetricasDeAciertos() {
+        Integer empleadoId = empleado();
+        empleadoService.obtenerEmpleadoPorId(empleadoId);
+        empleadoService.obtenerEmpleadoPorId(empleadoId);
+
+        CacheStats estadisticas = registroEmpleados.getEstadisticas();
+        assertTrue(estadisticas.hitCount() > 0);
+        assertEquals(estadisticas.hitRate(), meterRegistry.get("turnos.empleados.cache.aciertos").gauge().value());
+        assertEquals(estadisticas.hitCount(), meterRegistry.get("turnos.empleados.cache.consultas")
+                .tag("resultado", "acierto").functionCounter().count());
+        assertEquals(estadisticas.missCount(), meterRegistry.get("turnos.empleados.cache.consultas")
+                .tag("resultado", "fallo").functionCounter().count());
+    }
+
+    private Integer empleado() {
+        indice++;
+        EmpleadoDTO empleadoDTO = new EmpleadoDTO(null, "Registro", "Prueba", "registro" + indice + "@test.com",
+                43000000 + indice, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1));
+        return empleadoService.crearEmpleado(empleadoDTO).getId();
+    }
+
+    private JornadaRequestDTO request(Integer idEmpleado, LocalDate fecha) {
+        JornadaRequestDTO requestDTO = new JornadaRequestDTO();
+        requestDTO.setIdEmpleado(idEmpleado);
+        requestDTO.setIdConcepto(1);
+        requestDTO.setFecha(fecha);
+        requestDTO.setHorasTrabajadas(8);
+        return requestDTO;
+    }
+}
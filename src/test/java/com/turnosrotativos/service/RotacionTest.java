@@ -0,0 +1,87 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.dto.EmpleadoDTO;
+import com.turnosrotativos.dto.RotacionGeneradaDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+// Genera rotaciones completas sobre la base y verifica con SQL que ninguna jornada guardada rompa los topes
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rotacion",
+        "spring.jpa.show-sql=false"
+})
+class RotacionTest {
+
+    private static final int EMPLEADOS = 300;
+
+    @Autowired
+    private RotacionService rotacionService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private RegistroConceptos registroConceptos;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private JornadaLoteService jornadaLoteService;
+
+    @Test
+    void testRotacionesRespetanTodosLosTopes() {
+        for (int i = 0; i < EMPLEADOS; i++) {
+            empleadoService.crearEmpleado(new EmpleadoDTO(null, "Rotacion", "Prueba", "rotacion" + i + "@test.com",
+                    46000000 + i, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1)));
+        }
+
+        // Con los topes de V2 entran 2 empleados por concepto y día: 6 jornadas por día
+        RotacionGeneradaDTO conTopes = rotacionService.generar(YearMonth.of(2035, 1));
+        assertEquals(EMPLEADOS, conTopes.empleados());
+        assertEquals(31 * 6, conTopes.jornadasCreadas());
+        assertEquals(0, conTopes.jornadasRechazadas());
+        assertEquals(0, rotacionService.generar(YearMonth.of(2035, 1)).jornadasCreadas());
+
+        // Sin tope de empleados por día la rotación cubre a todos los empleados, repartidos en dos particiones
+        jdbcTemplate.update("UPDATE concepto_laboral SET max_empleados_dia = NULL");
+        registroConceptos.invalidar();
+        clearInvocations(jornadaLoteService);
+        RotacionGeneradaDTO sinTopes = rotacionService.generar(YearMonth.of(2035, 2));
+        assertEquals(0, sinTopes.jornadasRechazadas());
+        // Supera el tamaño máximo de un lote, así que se guarda en partes, cada una en su transacción
+        verify(jornadaLoteService, times((sinTopes.jornadasCreadas() + JornadaLoteService.TAMANIO_MAXIMO_LOTE - 1)
+                / JornadaLoteService.TAMANIO_MAXIMO_LOTE)).procesarLote(anyList());
+        verify(jornadaLoteService, never()).procesarLote(argThat(parte -> parte.size() > JornadaLoteService.TAMANIO_MAXIMO_LOTE));
+        assertEquals(EMPLEADOS, jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT empleado_id) FROM jornada_laboral " +
+                "WHERE fecha >= DATE '2035-02-01'", Integer.class));
+        assertTrue(sinTopes.jornadasCreadas() >= EMPLEADOS * 24, "Jornadas: " + sinTopes.jornadasCreadas());
+
+        assertEquals(0, contar("SELECT fecha, concepto_laboral_id FROM jornada_laboral WHERE fecha < DATE '2035-02-01' " +
+                "GROUP BY fecha, concepto_laboral_id HAVING COUNT(*) > 2"));
+        assertEquals(0, contar("SELECT empleado_id, fecha FROM jornada_laboral " +
+                "GROUP BY empleado_id, fecha HAVING SUM(COALESCE(horas_trabajadas, 0)) > 14"));
+        assertEquals(0, contar("SELECT j.empleado_id, DATEADD(DAY, 1 - ISO_DAY_OF_WEEK(j.fecha), j.fecha) FROM jornada_laboral j " +
+                "JOIN concepto_laboral c ON c.id = j.concepto_laboral_id " +
+                "GROUP BY j.empleado_id, DATEADD(DAY, 1 - ISO_DAY_OF_WEEK(j.fecha), j.fecha) " +
+                "HAVING SUM(COALESCE(j.horas_trabajadas, 0)) > 52 OR SUM(CASE WHEN c.tipo = 'TURNO_NORMAL' THEN 1 ELSE 0 END) > 5 " +
+                "OR SUM(CASE WHEN c.tipo = 'TURNO_EXTRA' THEN 1 ELSE 0 END) > 3 OR SUM(CASE WHEN c.tipo = 'DIA_LIBRE' THEN 1 ELSE 0 END) > 2"));
+        assertEquals(0, contar("SELECT j.empleado_id, YEAR(j.fecha), MONTH(j.fecha) FROM jornada_laboral j " +
+                "JOIN concepto_laboral c ON c.id = j.concepto_laboral_id " +
+                "GROUP BY j.empleado_id, YEAR(j.fecha), MONTH(j.fecha) " +
+                "HAVING SUM(COALESCE(j.horas_trabajadas, 0)) > 190 OR SUM(CASE WHEN c.tipo = 'DIA_LIBRE' THEN 1 ELSE 0 END) > 5"));
+    }
+
+    private int contar(String sql) {
+        return jdbcTemplate.queryForList(sql).size();
+    }
+}
@@ -0,0 +1,92 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoConcepto;
+import com.turnosrotativos.model.TipoPeriodo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotValidacionTest {
+
+    private Empleado empleado, otroEmpleado;
+    private ConceptoLaboral turnoNormal, turnoExtra, diaLibre;
+
+    @BeforeEach
+    void setUp() {
+        empleado = new Empleado();
+        empleado.setId(1);
+        otroEmpleado = new Empleado();
+        otroEmpleado.setId(2);
+
+        turnoNormal = concepto(1, "Turno Normal", TipoConcepto.TURNO_NORMAL);
+        turnoExtra = concepto(2, "Turno Extra", TipoConcepto.TURNO_EXTRA);
+        diaLibre = concepto(3, "Día Libre", TipoConcepto.DIA_LIBRE);
+    }
+
+    @Test
+    void testCalcularTomaSemanaYMesDeLosAcumulados() {
+        LocalDate fecha = LocalDate.of(2024, 5, 1);
+        AcumuladoJornada semana = new AcumuladoJornada(1, TipoPeriodo.SEMANA, AcumuladoJornada.inicioSemana(fecha));
+        semana.registrar(jornada(empleado, turnoNormal, LocalDate.of(2024, 4, 29), 8));
+        semana.registrar(jornada(empleado, diaLibre, LocalDate.of(2024, 4, 30), null));
+        AcumuladoJornada mes = new AcumuladoJornada(1, TipoPeriodo.MES, AcumuladoJornada.inicioMes(fecha));
+        mes.registrar(jornada(empleado, turnoNormal, LocalDate.of(2024, 5, 10), 8));
+        mes.registrar(jornada(empleado, turnoNormal, LocalDate.of(2024, 5, 13), 6));
+        List<JornadaLaboral> jornadasDelDia = List.of(
+                jornada(empleado, turnoExtra, fecha, 4),
+                jornada(otroEmpleado, turnoExtra, fecha, 6));
+
+        SnapshotValidacion snapshot = SnapshotValidacion.calcular(semana, mes, jornadasDelDia, 1, fecha, 2);
+
+        assertEquals(4, snapshot.getHorasDia());
+        assertEquals(8, snapshot.getHorasSemana());
+        assertEquals(14, snapshot.getHorasMes());
+        assertEquals(1, snapshot.getCantidadSemana(TipoConcepto.DIA_LIBRE));
+        assertEquals(0, snapshot.getCantidadMes(TipoConcepto.DIA_LIBRE));
+        assertEquals(0, snapshot.getCantidadSemana(TipoConcepto.TURNO_EXTRA));
+        assertEquals(1, snapshot.getCantidadSemana(TipoConcepto.TURNO_NORMAL));
+        assertEquals(2, snapshot.getCantidadMes(TipoConcepto.TURNO_NORMAL));
+        assertEquals(2, snapshot.getEmpleadosConceptoDia());
+        assertTrue(snapshot.isConceptoRegistradoEnDia());
+    }
+
+    @Test
+    void testCalcularSinJornadasDelEmpleado() {
+        LocalDate fecha = LocalDate.of(2024, 5, 1);
+        List<JornadaLaboral> jornadasDelDia = List.of(jornada(otroEmpleado, turnoNormal, fecha, 8));
+
+        SnapshotValidacion snapshot = SnapshotValidacion.calcular(
+                new AcumuladoJornada(1, TipoPeriodo.SEMANA, AcumuladoJornada.inicioSemana(fecha)),
+                new AcumuladoJornada(1, TipoPeriodo.MES, AcumuladoJornada.inicioMes(fecha)),
+                jornadasDelDia, 1, fecha, 1);
+
+        assertEquals(0, snapshot.getHorasDia());
+        assertEquals(0, snapshot.getHorasSemana());
+        assertEquals(1, snapshot.getEmpleadosConceptoDia());
+        assertFalse(snapshot.isConceptoRegistradoEnDia());
+    }
+
+    private ConceptoLaboral concepto(Integer id, String nombre, TipoConcepto tipo) {
+        ConceptoLaboral concepto = new ConceptoLaboral();
+        concepto.setId(id);
+        concepto.setNombre(nombre);
+        concepto.setTipo(tipo);
+        return concepto;
+    }
+
+    private JornadaLaboral jornada(Empleado empleado, ConceptoLaboral concepto, LocalDate fecha, Integer horas) {
+        JornadaLaboral jornada = new JornadaLaboral();
+        jornada.setEmpleado(empleado);
+        jornada.setConceptoLaboral(concepto);
+        jornada.setFecha(fecha);
+        jornada.setHorasTrabajadas(horas);
+        return jornada;
+    }
+}
@@ -0,0 +1,89 @@
+package com.turnosrotativos.service;
+
+import com.turnosrotativos.exception.BadRequestException;
+import com.turnosrotativos.model.AcumuladoJornada;
+import com.turnosrotativos.model.ConceptoLaboral;
+import com.turnosrotativos.model.Empleado;
+import com.turnosrotativos.model.JornadaLaboral;
+import com.turnosrotativos.model.TipoConcepto;
+import com.turnosrotativos.model.TipoPeriodo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidadorServiceTest {
+
+    private final ValidadorService validadorService = new ValidadorService(new SimpleMeterRegistry());
+    private final LocalDate fecha = LocalDate.of(2024, 5, 8);
+    private Empleado empleado;
+    private ConceptoLaboral turnoExtra, diaLibre;
+
+    @BeforeEach
+    void setUp() {
+        empleado = new Empleado();
+        empleado.setId(1);
+        turnoExtra = concepto(2, "Turno Extra", TipoConcepto.TURNO_EXTRA, true, 3, null);
+        diaLibre = concepto(3, "Día Libre", TipoConcepto.DIA_LIBRE, false, 2, 5);
+    }
+
+    @Test
+    void testCupoSemanalSaleDelConcepto() {
+        SnapshotValidacion snapshot = snapshotCon(turnoExtra, 3);
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () ->
+                validadorService.validarCupoConcepto(snapshot, turnoExtra));
+        assertEquals("El empleado ingresado ya cuenta con 3 turnos extra esta semana.", exception.getMessage());
+
+        turnoExtra.setMaxSemanal(4);
+        assertDoesNotThrow(() -> validadorService.validarCupoConcepto(snapshot, turnoExtra));
+        turnoExtra.setMaxSemanal(null);
+        assertDoesNotThrow(() -> validadorService.validarCupoConcepto(snapshot, turnoExtra));
+    }
+
+    @Test
+    void testCupoSemanalDeUnTipoNoAfectaAOtro() {
+        SnapshotValidacion snapshot = snapshotCon(turnoExtra, 3);
+
+        assertDoesNotThrow(() -> validadorService.validarCupoConcepto(snapshot, diaLibre));
+    }
+
+    @Test
+    void testConceptoNoLaborableNoAdmiteHoras() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () ->
+                validadorService.validarHorasTrabajadas(diaLibre, 4));
+        assertEquals("El concepto ingresado no requiere el ingreso de 'hsTrabajadas'", exception.getMessage());
+        assertThrows(BadRequestException.class, () -> validadorService.validarHorasTrabajadas(turnoExtra, null));
+    }
+
+    private SnapshotValidacion snapshotCon(ConceptoLaboral concepto, int cantidad) {
+        AcumuladoJornada semana = new AcumuladoJornada(1, TipoPeriodo.SEMANA, AcumuladoJornada.inicioSemana(fecha));
+        AcumuladoJornada mes = new AcumuladoJornada(1, TipoPeriodo.MES, AcumuladoJornada.inicioMes(fecha));
+        for (int i = 0; i < cantidad; i++) {
+            JornadaLaboral jornada = new JornadaLaboral();
+            jornada.setEmpleado(empleado);
+            jornada.setConceptoLaboral(concepto);
+            jornada.setFecha(semana.getInicioPeriodo().plusDays(i));
+            jornada.setHorasTrabajadas(4);
+            semana.registrar(jornada);
+            mes.registrar(jornada);
+        }
+        return SnapshotValidacion.calcular(semana, mes, List.of(), 1, fecha, concepto.getId());
+    }
+
+    private ConceptoLaboral concepto(Integer id, String nombre, TipoConcepto tipo, boolean laborable,
+                                     Integer maxSemanal, Integer maxMensual) {
+        ConceptoLaboral concepto = new ConceptoLaboral();
+        concepto.setId(id);
+        concepto.setNombre(nombre);
+        concepto.setTipo(tipo);
+        concepto.setLaborable(laborable);
+        concepto.setMaxEmpleadosDia(2);
+        concepto.setMaxSemanal(maxSemanal);
+        concepto.setMaxMensual(maxMensual);
+        return concepto;
+    }
+}